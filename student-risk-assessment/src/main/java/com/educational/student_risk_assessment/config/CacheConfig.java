@@ -0,0 +1,42 @@
+package com.educational.student_risk_assessment.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDENT_RISK_ASSESSMENTS = "studentRiskAssessments";
+    public static final String INTERVENTION_EFFECTIVENESS = "interventionEffectiveness";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.risk-assessment.maximum-size:10000}") long riskAssessmentMaximumSize,
+            @Value("${cache.risk-assessment.expire-after-write:10m}") Duration riskAssessmentExpireAfterWrite,
+            @Value("${cache.intervention-effectiveness.expire-after-write:1h}") Duration effectivenessExpireAfterWrite) {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(STUDENT_RISK_ASSESSMENTS, Caffeine.newBuilder()
+                .maximumSize(riskAssessmentMaximumSize)
+                .expireAfterWrite(riskAssessmentExpireAfterWrite)
+                .recordStats()
+                .build());
+
+        // One entry per year; writes evict their years, the expiry only bounds staleness from direct SQL changes
+        cacheManager.registerCustomCache(INTERVENTION_EFFECTIVENESS, Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(effectivenessExpireAfterWrite)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
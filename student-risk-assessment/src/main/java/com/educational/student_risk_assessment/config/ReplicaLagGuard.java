@@ -0,0 +1,50 @@
+package com.educational.student_risk_assessment.config;
+
+import com.educational.student_risk_assessment.event.InterventionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Read-your-writes guard for replica routing: a user who has just committed an
+ * intervention change reads from the primary until the window has passed, so
+ * replication lag never hides their own update.
+ */
+public class ReplicaLagGuard {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaLagGuard(Duration readYourWritesWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionsChanged(InterventionsChangedEvent event) {
+        String username = currentUsername();
+        if (username != null) {
+            recentWriters.put(username, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadPrimary() {
+        String username = currentUsername();
+        return username != null && recentWriters.getIfPresent(username) != null;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
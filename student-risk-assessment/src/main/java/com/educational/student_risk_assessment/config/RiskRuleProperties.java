@@ -0,0 +1,185 @@
+package com.educational.student_risk_assessment.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+
+/**
+ * Risk scoring thresholds, points and caps. Bound from {@code risk.rules} at
+ * startup and accepted as the request body when rules are reloaded at runtime.
+ * Defaults match the original hard-coded rules.
+ */
+@Component
+@Validated
+@ConfigurationProperties(prefix = "risk.rules")
+public class RiskRuleProperties {
+
+    @Valid
+    @NotNull
+    private Academic academic = new Academic();
+
+    @Valid
+    @NotNull
+    private Attendance attendance = new Attendance();
+
+    @Valid
+    @NotNull
+    private Behavior behavior = new Behavior();
+
+    @Valid
+    @NotNull
+    private Tardiness tardiness = new Tardiness();
+
+    @Valid
+    @NotNull
+    private Levels levels = new Levels();
+
+    public static class Academic {
+        @NotNull
+        @DecimalMin("0.0")
+        private BigDecimal gradeBelow = new BigDecimal("70");
+        @Min(0)
+        private int gradePoints = 25;
+        @Min(0)
+        private int elaBelow = 500;
+        @Min(0)
+        private int elaPoints = 15;
+        @Min(0)
+        private int mathBelow = 500;
+        @Min(0)
+        private int mathPoints = 15;
+        @Min(0)
+        private int cap = 40;
+
+        public BigDecimal getGradeBelow() { return gradeBelow; }
+        public void setGradeBelow(BigDecimal gradeBelow) { this.gradeBelow = gradeBelow; }
+
+        public int getGradePoints() { return gradePoints; }
+        public void setGradePoints(int gradePoints) { this.gradePoints = gradePoints; }
+
+        public int getElaBelow() { return elaBelow; }
+        public void setElaBelow(int elaBelow) { this.elaBelow = elaBelow; }
+
+        public int getElaPoints() { return elaPoints; }
+        public void setElaPoints(int elaPoints) { this.elaPoints = elaPoints; }
+
+        public int getMathBelow() { return mathBelow; }
+        public void setMathBelow(int mathBelow) { this.mathBelow = mathBelow; }
+
+        public int getMathPoints() { return mathPoints; }
+        public void setMathPoints(int mathPoints) { this.mathPoints = mathPoints; }
+
+        public int getCap() { return cap; }
+        public void setCap(int cap) { this.cap = cap; }
+    }
+
+    public static class Attendance {
+        @NotNull
+        @DecimalMin("0.0")
+        private BigDecimal rateBelow = new BigDecimal("90");
+        @Min(0)
+        private int ratePoints = 20;
+        @Min(0)
+        private int absentDaysAbove = 10;
+        @Min(0)
+        private int absentDaysPoints = 10;
+        @Min(0)
+        private int cap = 30;
+
+        public BigDecimal getRateBelow() { return rateBelow; }
+        public void setRateBelow(BigDecimal rateBelow) { this.rateBelow = rateBelow; }
+
+        public int getRatePoints() { return ratePoints; }
+        public void setRatePoints(int ratePoints) { this.ratePoints = ratePoints; }
+
+        public int getAbsentDaysAbove() { return absentDaysAbove; }
+        public void setAbsentDaysAbove(int absentDaysAbove) { this.absentDaysAbove = absentDaysAbove; }
+
+        public int getAbsentDaysPoints() { return absentDaysPoints; }
+        public void setAbsentDaysPoints(int absentDaysPoints) { this.absentDaysPoints = absentDaysPoints; }
+
+        public int getCap() { return cap; }
+        public void setCap(int cap) { this.cap = cap; }
+    }
+
+    public static class Behavior {
+        @Min(0)
+        private int disciplinaryActionsAbove = 2;
+        @Min(0)
+        private int disciplinaryActionsPoints = 15;
+        @Min(0)
+        private int suspensionsAbove = 0;
+        @Min(0)
+        private int suspensionsPoints = 5;
+        @Min(0)
+        private int cap = 20;
+
+        public int getDisciplinaryActionsAbove() { return disciplinaryActionsAbove; }
+        public void setDisciplinaryActionsAbove(int disciplinaryActionsAbove) { this.disciplinaryActionsAbove = disciplinaryActionsAbove; }
+
+        public int getDisciplinaryActionsPoints() { return disciplinaryActionsPoints; }
+        public void setDisciplinaryActionsPoints(int disciplinaryActionsPoints) { this.disciplinaryActionsPoints = disciplinaryActionsPoints; }
+
+        public int getSuspensionsAbove() { return suspensionsAbove; }
+        public void setSuspensionsAbove(int suspensionsAbove) { this.suspensionsAbove = suspensionsAbove; }
+
+        public int getSuspensionsPoints() { return suspensionsPoints; }
+        public void setSuspensionsPoints(int suspensionsPoints) { this.suspensionsPoints = suspensionsPoints; }
+
+        public int getCap() { return cap; }
+        public void setCap(int cap) { this.cap = cap; }
+    }
+
+    public static class Tardiness {
+        @Min(0)
+        private int tardyDaysAbove = 5;
+        @Min(0)
+        private int tardyDaysPoints = 10;
+        @Min(0)
+        private int cap = 10;
+
+        public int getTardyDaysAbove() { return tardyDaysAbove; }
+        public void setTardyDaysAbove(int tardyDaysAbove) { this.tardyDaysAbove = tardyDaysAbove; }
+
+        public int getTardyDaysPoints() { return tardyDaysPoints; }
+        public void setTardyDaysPoints(int tardyDaysPoints) { this.tardyDaysPoints = tardyDaysPoints; }
+
+        public int getCap() { return cap; }
+        public void setCap(int cap) { this.cap = cap; }
+    }
+
+    public static class Levels {
+        @Min(0)
+        private int highFrom = 70;
+        @Min(0)
+        private int mediumFrom = 40;
+
+        public int getHighFrom() { return highFrom; }
+        public void setHighFrom(int highFrom) { this.highFrom = highFrom; }
+
+        public int getMediumFrom() { return mediumFrom; }
+        public void setMediumFrom(int mediumFrom) { this.mediumFrom = mediumFrom; }
+    }
+
+    // Getters and Setters
+    public Academic getAcademic() { return academic; }
+    public void setAcademic(Academic academic) { this.academic = academic; }
+
+    public Attendance getAttendance() { return attendance; }
+    public void setAttendance(Attendance attendance) { this.attendance = attendance; }
+
+    public Behavior getBehavior() { return behavior; }
+    public void setBehavior(Behavior behavior) { this.behavior = behavior; }
+
+    public Tardiness getTardiness() { return tardiness; }
+    public void setTardiness(Tardiness tardiness) { this.tardiness = tardiness; }
+
+    public Levels getLevels() { return levels; }
+    public void setLevels(Levels levels) { this.levels = levels; }
+}
@@ -46,6 +46,8 @@ public class SecurityConfig {
                         ).permitAll()
                         .requestMatchers("/api/risk-assessment/**").hasAnyRole("TEACHER", "ADMIN")
                         .requestMatchers("/api/interventions/**").hasAnyRole("TEACHER", "ADMIN", "PARENT", "STUDENT")
+                        .requestMatchers("/api/guardians/**").hasRole("ADMIN")
+                        .requestMatchers("/api/imports/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
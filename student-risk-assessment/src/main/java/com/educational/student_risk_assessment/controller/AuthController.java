@@ -2,7 +2,7 @@ package com.educational.student_risk_assessment.controller;
 
 import com.educational.student_risk_assessment.dto.JwtAuthenticationResponse;
 import com.educational.student_risk_assessment.dto.LoginRequest;
-import com.educational.student_risk_assessment.security.JwtTokenProvider;
+import com.educational.student_risk_assessment.service.LoginService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -10,22 +10,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "User authentication and JWT token management")
 public class AuthController {
 
     @Autowired
-    private AuthenticationManager authenticationManager;
-
-    @Autowired
-    private JwtTokenProvider tokenProvider;
+    private LoginService loginService;
 
     @Operation(
             summary = "User login",
@@ -34,22 +29,15 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful - JWT token returned"),
             @ApiResponse(responseCode = "401", description = "Invalid credentials"),
-            @ApiResponse(responseCode = "400", description = "Invalid request format")
+            @ApiResponse(responseCode = "400", description = "Invalid request format"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent logins - retry shortly")
     })
     @PostMapping("/login")
-    public ResponseEntity<JwtAuthenticationResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        String jwt = tokenProvider.generateToken(authentication);
+    public CompletableFuture<ResponseEntity<JwtAuthenticationResponse>> authenticateUser(
+            @Valid @RequestBody LoginRequest loginRequest) {
 
-        return ResponseEntity.ok(new JwtAuthenticationResponse(jwt, "Bearer"));
+        // Password hashing runs on the login pool; the request thread is released while it waits
+        return loginService.login(loginRequest.getUsername(), loginRequest.getPassword())
+                .thenApply(jwt -> ResponseEntity.ok(new JwtAuthenticationResponse(jwt, "Bearer")));
     }
 }
@@ -0,0 +1,86 @@
+package com.educational.student_risk_assessment.controller;
+
+import com.educational.student_risk_assessment.service.GuardianService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/guardians")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Guardians", description = "Which students each parent login may access")
+@SecurityRequirement(name = "Bearer Authentication")
+public class GuardianController {
+
+    @Autowired
+    private GuardianService guardianService;
+
+    @Operation(
+            summary = "List a guardian's students",
+            description = "Return the ids of the students a parent login is linked to"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Linked students returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @GetMapping("/{username}/students")
+    public ResponseEntity<List<UUID>> getLinkedStudents(
+            @Parameter(description = "Guardian username", required = true)
+            @PathVariable String username) {
+
+        return ResponseEntity.ok(guardianService.getLinkedStudents(username));
+    }
+
+    @Operation(
+            summary = "Link a student to a guardian",
+            description = "Allow a parent login to access a student's data. Linking twice has no effect."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Student linked"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only"),
+            @ApiResponse(responseCode = "404", description = "Student not found")
+    })
+    @PutMapping("/{username}/students/{studentId}")
+    public ResponseEntity<Void> linkStudent(
+            @Parameter(description = "Guardian username", required = true)
+            @PathVariable String username,
+            @Parameter(description = "Student UUID", required = true)
+            @PathVariable UUID studentId) {
+
+        guardianService.linkStudent(username, studentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Unlink a student from a guardian",
+            description = "Revoke a parent login's access to a student's data"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Student unlinked"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only"),
+            @ApiResponse(responseCode = "404", description = "Link not found")
+    })
+    @DeleteMapping("/{username}/students/{studentId}")
+    public ResponseEntity<Void> unlinkStudent(
+            @Parameter(description = "Guardian username", required = true)
+            @PathVariable String username,
+            @Parameter(description = "Student UUID", required = true)
+            @PathVariable UUID studentId) {
+
+        guardianService.unlinkStudent(username, studentId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.educational.student_risk_assessment.controller;
+
+import com.educational.student_risk_assessment.dto.RosterSyncJob;
+import com.educational.student_risk_assessment.dto.SisImportJob;
+import com.educational.student_risk_assessment.dto.SisImportType;
+import com.educational.student_risk_assessment.service.RosterSyncService;
+import com.educational.student_risk_assessment.service.SisImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/imports")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Imports", description = "Bulk loading of SIS extracts")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ImportController {
+
+    @Autowired
+    private SisImportService sisImportService;
+
+    @Autowired
+    private RosterSyncService rosterSyncService;
+
+    @Operation(
+            summary = "Start an SIS CSV import",
+            description = "Stream a CSV extract from the server's import directory into the academic performance, " +
+                    "attendance or behavior table, replacing existing rows with the same student and semester " +
+                    "(and course). Returns immediately; poll the returned job for progress and rows/s."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job accepted"),
+            @ApiResponse(responseCode = "400", description = "File not found in the import directory"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @PostMapping
+    public ResponseEntity<SisImportJob> startImport(
+            @Parameter(description = "Kind of extract", required = true)
+            @RequestParam SisImportType type,
+            @Parameter(description = "File name relative to the import directory", required = true)
+            @RequestParam String file) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(sisImportService.start(type, file));
+    }
+
+    @Operation(
+            summary = "Get import progress",
+            description = "Return the status, row counters, throughput and sample rejected rows of an import job"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job status retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<SisImportJob> getImportJob(
+            @Parameter(description = "Import job UUID", required = true)
+            @PathVariable UUID jobId) {
+
+        return ResponseEntity.ok(sisImportService.getJob(jobId));
+    }
+
+    @Operation(
+            summary = "Start a roster sync",
+            description = "Merge a student roster CSV (sis_id, name, grade) from the server's import directory into " +
+                    "the students table. The file must be sorted by sis_id. Only new, changed and removed students " +
+                    "are written; students missing from the file are marked withdrawn once the whole file has been " +
+                    "read, and the sync fails instead if that would withdraw more than imports.roster.max-deletes " +
+                    "students. Returns immediately; poll the returned job for progress."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Roster sync job accepted"),
+            @ApiResponse(responseCode = "400", description = "File not found in the import directory"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @PostMapping("/roster")
+    public ResponseEntity<RosterSyncJob> startRosterSync(
+            @Parameter(description = "File name relative to the import directory", required = true)
+            @RequestParam String file) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(rosterSyncService.start(file));
+    }
+
+    @Operation(
+            summary = "Get roster sync progress",
+            description = "Return the status, insert/update/delete counts and sample rejected rows of a roster sync"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job status retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/roster/{jobId}")
+    public ResponseEntity<RosterSyncJob> getRosterSyncJob(
+            @Parameter(description = "Roster sync job UUID", required = true)
+            @PathVariable UUID jobId) {
+
+        return ResponseEntity.ok(rosterSyncService.getJob(jobId));
+    }
+}
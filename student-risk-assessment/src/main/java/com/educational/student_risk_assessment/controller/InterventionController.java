@@ -1,8 +1,15 @@
 package com.educational.student_risk_assessment.controller;
 
+import com.educational.student_risk_assessment.dto.BulkCreateInterventionsRequest;
+import com.educational.student_risk_assessment.dto.BulkInterventionProgressRequest;
 import com.educational.student_risk_assessment.dto.CreateInterventionRequest;
+import com.educational.student_risk_assessment.dto.InterventionDetails;
+import com.educational.student_risk_assessment.dto.InterventionEffectiveness;
+import com.educational.student_risk_assessment.dto.InterventionProgressResult;
 import com.educational.student_risk_assessment.dto.InterventionProgressUpdate;
 import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.InterventionProgressEntry;
+import com.educational.student_risk_assessment.service.InterventionEffectivenessService;
 import com.educational.student_risk_assessment.service.InterventionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,12 +19,17 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/interventions")
@@ -25,9 +37,14 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class InterventionController {
 
+    private static final int MAX_HISTORY_ENTRIES = 10000;
+
     @Autowired
     private InterventionService interventionService;
 
+    @Autowired
+    private InterventionEffectivenessService interventionEffectivenessService;
+
     @Operation(
             summary = "Create new intervention",
             description = "Create a new intervention plan for an at-risk student"
@@ -47,6 +64,29 @@ public class InterventionController {
         return ResponseEntity.ok(intervention);
     }
 
+    @Operation(
+            summary = "Create many interventions",
+            description = "Create up to 5000 interventions in one transaction. The whole batch is rejected " +
+                    "if any student does not exist or any date range is invalid."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Interventions created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data or unknown students"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Teachers and Admins only")
+    })
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public ResponseEntity<Map<String, Object>> createInterventions(
+            @Valid @RequestBody BulkCreateInterventionsRequest request) {
+
+        List<UUID> ids = interventionService.createInterventions(request.getInterventions());
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+                "created", ids.size(),
+                "interventionIds", ids
+        ));
+    }
+
     @Operation(
             summary = "Update intervention progress",
             description = "Update the current progress score for an existing intervention"
@@ -69,6 +109,99 @@ public class InterventionController {
         return ResponseEntity.ok(intervention);
     }
 
+    @Operation(
+            summary = "Update progress for many interventions",
+            description = "Apply a batch of progress scores in one transaction. Each item reports whether " +
+                    "the intervention was updated or not found, with its resulting status."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid progress data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Teachers and Admins only")
+    })
+    @PutMapping("/progress")
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public ResponseEntity<List<InterventionProgressResult>> updateProgressBatch(
+            @Valid @RequestBody BulkInterventionProgressRequest request) {
+
+        List<InterventionProgressResult> results =
+                interventionService.updateInterventionProgressBatch(request.getUpdates());
+        return ResponseEntity.ok(results);
+    }
+
+    @Operation(
+            summary = "Get intervention effectiveness by type",
+            description = "Completion rate, mean days to goal and mean progress rate per intervention type " +
+                    "for interventions started in the given year"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Effectiveness retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Teachers and Admins only")
+    })
+    @GetMapping("/effectiveness")
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public ResponseEntity<List<InterventionEffectiveness>> getEffectiveness(
+            @Parameter(description = "Start-date year (e.g., 2024)", required = true)
+            @RequestParam int year) {
+
+        return ResponseEntity.ok(interventionEffectivenessService.getEffectiveness(year));
+    }
+
+    @Operation(
+            summary = "Get intervention progress history",
+            description = "Every recorded score of one intervention, oldest first. Days are inclusive; " +
+                    "without a range the whole history up to today is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Teachers and Admins only")
+    })
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public ResponseEntity<List<InterventionProgressEntry>> getProgressHistory(
+            @Parameter(description = "Intervention UUID", required = true)
+            @PathVariable String id,
+            @Parameter(description = "First day (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (yyyy-MM-dd), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(interventionService.getProgressHistory(id, from, to));
+    }
+
+    @Operation(
+            summary = "Get progress history for an intervention type",
+            description = "Recorded scores of every intervention of one type within a day range, oldest first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Teachers and Admins only")
+    })
+    @GetMapping("/history")
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public ResponseEntity<List<InterventionProgressEntry>> getProgressHistoryByType(
+            @Parameter(description = "Intervention type", required = true)
+            @RequestParam String type,
+            @Parameter(description = "First day (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (yyyy-MM-dd), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Maximum number of entries (1-" + MAX_HISTORY_ENTRIES + ")")
+            @RequestParam(defaultValue = "1000") int limit) {
+
+        if (limit < 1 || limit > MAX_HISTORY_ENTRIES) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_HISTORY_ENTRIES);
+        }
+
+        return ResponseEntity.ok(interventionService.getProgressHistoryByType(type, from, to, limit));
+    }
+
     @Operation(
             summary = "Get student interventions",
             description = "Retrieve all interventions for a specific student (with role-based access control)"
@@ -83,12 +216,12 @@ public class InterventionController {
     @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN') or " +
             "(hasRole('PARENT') and @authorizationService.canAccessStudentData(#studentId, authentication)) or " +
             "(hasRole('STUDENT') and #studentId == authentication.name)")
-    public ResponseEntity<List<Intervention>> getStudentInterventions(
+    public ResponseEntity<List<InterventionDetails>> getStudentInterventions(
             @Parameter(description = "Student UUID", required = true)
             @PathVariable String studentId,
             Authentication authentication) {
 
-        List<Intervention> interventions = interventionService.getStudentInterventions(studentId);
+        List<InterventionDetails> interventions = interventionService.getStudentInterventions(studentId);
         return ResponseEntity.ok(interventions);
     }
 }
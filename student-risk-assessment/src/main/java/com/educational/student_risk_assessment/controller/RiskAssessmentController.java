@@ -2,9 +2,15 @@ package com.educational.student_risk_assessment.controller;
 
 import com.educational.student_risk_assessment.dto.InterventionRecommendation;
 import com.educational.student_risk_assessment.dto.AtRiskStudent;
+import com.educational.student_risk_assessment.dto.AtRiskStudentPage;
+import com.educational.student_risk_assessment.dto.CohortRecomputeJob;
+import com.educational.student_risk_assessment.dto.ExportFormat;
 import com.educational.student_risk_assessment.dto.RiskLevel;
 import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
+import com.educational.student_risk_assessment.service.AtRiskExportService;
+import com.educational.student_risk_assessment.service.CohortRecomputeService;
 import com.educational.student_risk_assessment.service.RiskAssessmentService;
+import com.educational.student_risk_assessment.service.RiskScoreProjectionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,15 +18,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/risk-assessment")
@@ -29,9 +39,20 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class RiskAssessmentController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private RiskAssessmentService riskAssessmentService;
 
+    @Autowired
+    private RiskScoreProjectionService riskScoreProjectionService;
+
+    @Autowired
+    private CohortRecomputeService cohortRecomputeService;
+
+    @Autowired
+    private AtRiskExportService atRiskExportService;
+
     @Operation(
             summary = "Get student risk assessment",
             description = "Calculate and return comprehensive risk assessment for a specific student"
@@ -60,41 +81,120 @@ public class RiskAssessmentController {
 
     @Operation(
             summary = "Get at-risk students",
-            description = "Retrieve paginated list of students who meet the specified risk criteria"
+            description = "Retrieve students who meet the specified risk criteria, ordered by risk score (highest first). " +
+                    "Pages are addressed with the opaque nextCursor returned by the previous page. Students without " +
+                    "risk inputs for the semester are listed as LOW with a score of 0 unless minimumRisk is above LOW."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "At-risk students retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions")
     })
     @GetMapping("/at-risk")
-    public ResponseEntity<Page<AtRiskStudent>> getAtRiskStudents(
-            @Parameter(description = "Page number (0-based)")
-            @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size")
+    public ResponseEntity<AtRiskStudentPage> getAtRiskStudents(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")")
             @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Semester filter")
             @RequestParam(required = false) String semester,
             @Parameter(description = "Minimum risk level filter")
-            @RequestParam(required = false) RiskLevel minimumRisk) {
+            @RequestParam(required = false) RiskLevel minimumRisk,
+            @Parameter(description = "Student grade filter (e.g., '9th')")
+            @RequestParam(required = false) String grade) {
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
         String semesterToUse = semester != null ? semester : "2024-Fall";
 
-        List<AtRiskStudent> atRiskStudents = riskAssessmentService.identifyAtRiskStudents(
-                semesterToUse, minimumRisk
+        AtRiskStudentPage atRiskStudents = riskAssessmentService.findAtRiskStudentsPage(
+                semesterToUse, minimumRisk, grade, cursor, size
         );
 
+        return ResponseEntity.ok(atRiskStudents);
+    }
 
-        Pageable pageable = PageRequest.of(page, size);
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), atRiskStudents.size());
 
-        List<AtRiskStudent> pagedContent = atRiskStudents.subList(start, end);
-        Page<AtRiskStudent> pagedResult = new PageImpl<>(pagedContent, pageable, atRiskStudents.size());
+    @Operation(
+            summary = "Get highest-risk students",
+            description = "Return the k students with the highest risk score for a semester, optionally within one " +
+                    "grade. Students with no risk inputs rank with a score of 0, as on /at-risk"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Highest-risk students retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid k"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions")
+    })
+    @GetMapping("/top")
+    public ResponseEntity<List<AtRiskStudent>> getTopRiskStudents(
+            @Parameter(description = "Number of students to return (1-" + MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int k,
+            @Parameter(description = "Semester filter")
+            @RequestParam(required = false) String semester,
+            @Parameter(description = "Student grade filter (e.g., '9th')")
+            @RequestParam(required = false) String grade) {
 
-        return ResponseEntity.ok(pagedResult);
+        if (k < 1 || k > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        String semesterToUse = semester != null ? semester : "2024-Fall";
+
+        return ResponseEntity.ok(riskAssessmentService.findTopRiskStudents(semesterToUse, grade, k));
     }
 
+    @Operation(
+            summary = "Export at-risk students",
+            description = "Stream every student who meets the risk criteria for a semester, highest risk first, " +
+                    "as NDJSON or CSV. Without a minimum risk level, students with no risk inputs for the semester " +
+                    "are included with a score of 0, as on /at-risk. The response is gzip-compressed when the " +
+                    "client accepts gzip."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "At-risk roster streamed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions")
+    })
+    @GetMapping("/at-risk/export")
+    public ResponseEntity<StreamingResponseBody> exportAtRiskStudents(
+            @Parameter(description = "Semester filter")
+            @RequestParam(required = false) String semester,
+            @Parameter(description = "Minimum risk level filter")
+            @RequestParam(required = false) RiskLevel minimumRisk,
+            @Parameter(description = "Student grade filter (e.g., '9th')")
+            @RequestParam(required = false) String grade,
+            @Parameter(description = "Output format")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        String semesterToUse = semester != null ? semester : "2024-Fall";
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 8192)) {
+                    atRiskExportService.export(semesterToUse, minimumRisk, grade, format, compressed);
+                }
+            } else {
+                atRiskExportService.export(semesterToUse, minimumRisk, grade, format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("at-risk-" + semesterToUse + "." + format.getExtension())
+                        .build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(body);
+    }
 
     @Operation(
             summary = "Get automated intervention recommendations for student",
@@ -116,4 +216,62 @@ public class RiskAssessmentController {
 
         return ResponseEntity.ok(recommendations);
     }
+
+    @Operation(
+            summary = "Rebuild materialized risk scores",
+            description = "Recompute the stored risk score of every student with data for a semester"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Risk scores rebuilt"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @PostMapping("/scores/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildRiskScores(
+            @Parameter(description = "Semester to rebuild (e.g., '2024-Fall')", required = true)
+            @RequestParam String semester) {
+
+        int rescored = riskScoreProjectionService.rebuildSemester(semester);
+
+        return ResponseEntity.ok(Map.of("semester", semester, "studentsRescored", rescored));
+    }
+
+    @Operation(
+            summary = "Start a cohort risk score recompute",
+            description = "Rescore every student for a semester in parallel id-range chunks. " +
+                    "Returns immediately; poll the returned job for progress."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Recompute job accepted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @PostMapping("/scores/recompute")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CohortRecomputeJob> recomputeRiskScores(
+            @Parameter(description = "Semester to recompute (e.g., '2024-Fall')", required = true)
+            @RequestParam String semester) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(cohortRecomputeService.start(semester));
+    }
+
+    @Operation(
+            summary = "Get cohort recompute progress",
+            description = "Return the status and progress counters of a recompute job"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job status retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/scores/recompute/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CohortRecomputeJob> getRecomputeJob(
+            @Parameter(description = "Recompute job UUID", required = true)
+            @PathVariable UUID jobId) {
+
+        return ResponseEntity.ok(cohortRecomputeService.getJob(jobId));
+    }
 }
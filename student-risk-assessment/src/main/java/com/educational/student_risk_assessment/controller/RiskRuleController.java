@@ -0,0 +1,76 @@
+package com.educational.student_risk_assessment.controller;
+
+import com.educational.student_risk_assessment.config.RiskRuleProperties;
+import com.educational.student_risk_assessment.dto.CohortRecomputeJob;
+import com.educational.student_risk_assessment.service.CohortRecomputeService;
+import com.educational.student_risk_assessment.service.RiskRuleEngine;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/risk-assessment/rules")
+@PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+@Tag(name = "Risk Rules", description = "Risk scoring thresholds, points and caps")
+@SecurityRequirement(name = "Bearer Authentication")
+public class RiskRuleController {
+
+    @Autowired
+    private RiskRuleEngine riskRuleEngine;
+
+    @Autowired
+    private CohortRecomputeService cohortRecomputeService;
+
+    @Operation(
+            summary = "Get active risk rules",
+            description = "Return the risk scoring rule set currently in effect"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active rules returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions")
+    })
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getRules() {
+        return ResponseEntity.ok(Map.of(
+                "version", riskRuleEngine.currentVersion(),
+                "rules", riskRuleEngine.currentRules()));
+    }
+
+    @Operation(
+            summary = "Reload risk rules",
+            description = "Compile and atomically activate a new risk scoring rule set without a restart. " +
+                    "Stored risk scores are rebuilt with the new rules in the background, one recompute job per " +
+                    "semester; poll GET /api/risk-assessment/scores/recompute/{jobId} with the returned job ids."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rules reloaded"),
+            @ApiResponse(responseCode = "400", description = "Invalid rule set"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @PutMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> reloadRules(@Valid @RequestBody RiskRuleProperties rules) {
+        long version = riskRuleEngine.reload(rules);
+        List<UUID> recomputeJobIds = cohortRecomputeService.startAllSemesters().stream()
+                .map(CohortRecomputeJob::getId)
+                .toList();
+
+        return ResponseEntity.ok(Map.of(
+                "version", version,
+                "rules", riskRuleEngine.currentRules(),
+                "recomputeJobIds", recomputeJobIds));
+    }
+}
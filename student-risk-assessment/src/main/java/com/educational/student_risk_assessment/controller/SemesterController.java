@@ -0,0 +1,65 @@
+package com.educational.student_risk_assessment.controller;
+
+import com.educational.student_risk_assessment.entity.Semester;
+import com.educational.student_risk_assessment.service.SemesterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/semesters")
+@Tag(name = "Semesters", description = "School terms and their date ranges")
+@SecurityRequirement(name = "Bearer Authentication")
+public class SemesterController {
+
+    @Autowired
+    private SemesterService semesterService;
+
+    @Operation(
+            summary = "List semesters",
+            description = "Return every semester ordered by start date"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Semesters returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping
+    public ResponseEntity<List<Semester>> getSemesters() {
+        return ResponseEntity.ok(semesterService.findAll());
+    }
+
+    @Operation(
+            summary = "Create or update a semester",
+            description = "Set the date range of a semester code such as '2024-Fall'. Interventions are counted " +
+                    "toward the semester their start date falls in."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Semester saved"),
+            @ApiResponse(responseCode = "400", description = "End date before start date"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admins only")
+    })
+    @PutMapping("/{code}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Semester> saveSemester(
+            @Parameter(description = "Semester code (e.g., '2024-Fall')", required = true)
+            @PathVariable String code,
+            @Parameter(description = "First day (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Last day (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        return ResponseEntity.ok(semesterService.save(code, startDate, endDate));
+    }
+}
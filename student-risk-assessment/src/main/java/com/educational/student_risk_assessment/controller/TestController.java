@@ -4,12 +4,14 @@ import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
 import com.educational.student_risk_assessment.entity.AcademicPerformance;
 import com.educational.student_risk_assessment.entity.Attendance;
 import com.educational.student_risk_assessment.entity.Behavior;
+import com.educational.student_risk_assessment.entity.Semester;
 import com.educational.student_risk_assessment.entity.Student;
 import com.educational.student_risk_assessment.repository.AcademicPerformanceRepository;
 import com.educational.student_risk_assessment.repository.AttendanceRepository;
 import com.educational.student_risk_assessment.repository.BehaviorRepository;
 import com.educational.student_risk_assessment.repository.StudentRepository;
 import com.educational.student_risk_assessment.service.RiskAssessmentService;
+import com.educational.student_risk_assessment.service.SemesterService;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,10 +36,14 @@ private AttendanceRepository attendanceRepository;
 @Autowired
 private BehaviorRepository behaviorRepository;
 
+@Autowired
+private SemesterService semesterService;
+
     @GetMapping("/test-business-logic")
     public String testBusinessLogic() {
         try {
             StringBuilder results = new StringBuilder("✅ Business Logic Test Results:<br>");
+            Semester semester = semesterService.getOrCreate("2024-Fall");
 
             // === HIGH RISK STUDENT ===
             Student highRiskStudent = new Student("High Risk", "10th");
@@ -45,7 +51,7 @@ private BehaviorRepository behaviorRepository;
 
             AcademicPerformance highRiskAcademic = new AcademicPerformance();
             highRiskAcademic.setStudent(highRiskStudent);
-            highRiskAcademic.setSemester("2024-Fall");
+            highRiskAcademic.setSemester(semester);
             highRiskAcademic.setCourse("Math");
             highRiskAcademic.setGrade(new BigDecimal("58"));
             highRiskAcademic.setStateAssessmentMath(450);
@@ -53,7 +59,7 @@ private BehaviorRepository behaviorRepository;
 
             Attendance highRiskAttendance = new Attendance();
             highRiskAttendance.setStudent(highRiskStudent);
-            highRiskAttendance.setSemester("2024-Fall");
+            highRiskAttendance.setSemester(semester);
             highRiskAttendance.setAttendanceRate(new BigDecimal("80"));
             highRiskAttendance.setAbsentDays(15);
             highRiskAttendance.setTardyDays(9);
@@ -61,7 +67,7 @@ private BehaviorRepository behaviorRepository;
 
             Behavior highRiskBehavior = new Behavior();
             highRiskBehavior.setStudent(highRiskStudent);
-            highRiskBehavior.setSemester("2024-Fall");
+            highRiskBehavior.setSemester(semester);
             highRiskBehavior.setDisciplinaryActions(5);
             highRiskBehavior.setSuspensions(2);
             behaviorRepository.save(highRiskBehavior);
@@ -77,7 +83,7 @@ private BehaviorRepository behaviorRepository;
 
             AcademicPerformance medRiskAcademic = new AcademicPerformance();
             medRiskAcademic.setStudent(mediumRiskStudent);
-            medRiskAcademic.setSemester("2024-Fall");
+            medRiskAcademic.setSemester(semester);
             medRiskAcademic.setCourse("Science");
             medRiskAcademic.setGrade(new BigDecimal("68"));
             medRiskAcademic.setStateAssessmentMath(510);
@@ -86,7 +92,7 @@ private BehaviorRepository behaviorRepository;
 
             Attendance medRiskAttendance = new Attendance();
             medRiskAttendance.setStudent(mediumRiskStudent);
-            medRiskAttendance.setSemester("2024-Fall");
+            medRiskAttendance.setSemester(semester);
             medRiskAttendance.setAttendanceRate(new BigDecimal("88"));
             medRiskAttendance.setAbsentDays(4);
             medRiskAttendance.setTardyDays(2);
@@ -95,7 +101,7 @@ private BehaviorRepository behaviorRepository;
 // Behavior: no risk
             Behavior medRiskBehavior = new Behavior();
             medRiskBehavior.setStudent(mediumRiskStudent);
-            medRiskBehavior.setSemester("2024-Fall");
+            medRiskBehavior.setSemester(semester);
             medRiskBehavior.setDisciplinaryActions(0);
             medRiskBehavior.setSuspensions(0);
             behaviorRepository.save(medRiskBehavior);
@@ -110,7 +116,7 @@ private BehaviorRepository behaviorRepository;
 
             AcademicPerformance lowRiskAcademic = new AcademicPerformance();
             lowRiskAcademic.setStudent(lowRiskStudent);
-            lowRiskAcademic.setSemester("2024-Fall");
+            lowRiskAcademic.setSemester(semester);
             lowRiskAcademic.setCourse("English");
             lowRiskAcademic.setGrade(new BigDecimal("88"));
             lowRiskAcademic.setStateAssessmentMath(550);
@@ -118,7 +124,7 @@ private BehaviorRepository behaviorRepository;
 
             Attendance lowRiskAttendance = new Attendance();
             lowRiskAttendance.setStudent(lowRiskStudent);
-            lowRiskAttendance.setSemester("2024-Fall");
+            lowRiskAttendance.setSemester(semester);
             lowRiskAttendance.setAttendanceRate(new BigDecimal("96"));
             lowRiskAttendance.setAbsentDays(2);
             lowRiskAttendance.setTardyDays(1);
@@ -126,7 +132,7 @@ private BehaviorRepository behaviorRepository;
 
             Behavior lowRiskBehavior = new Behavior();
             lowRiskBehavior.setStudent(lowRiskStudent);
-            lowRiskBehavior.setSemester("2024-Fall");
+            lowRiskBehavior.setSemester(semester);
             lowRiskBehavior.setDisciplinaryActions(0);
             lowRiskBehavior.setSuspensions(0);
             behaviorRepository.save(lowRiskBehavior);
@@ -0,0 +1,31 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.util.List;
+
+public class AtRiskStudentPage {
+
+    private List<AtRiskStudent> content;
+    private int size;
+    private String nextCursor;
+
+    // Constructors
+    public AtRiskStudentPage() {}
+
+    public AtRiskStudentPage(List<AtRiskStudent> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<AtRiskStudent> getContent() { return content; }
+    public void setContent(List<AtRiskStudent> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isLast() { return nextCursor == null; }
+}
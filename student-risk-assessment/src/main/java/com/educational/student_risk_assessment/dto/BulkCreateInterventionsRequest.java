@@ -0,0 +1,17 @@
+package com.educational.student_risk_assessment.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public class BulkCreateInterventionsRequest {
+    public static final int MAX_INTERVENTIONS = 5000;
+
+    @NotEmpty(message = "At least one intervention is required.")
+    @Size(max = MAX_INTERVENTIONS, message = "At most " + MAX_INTERVENTIONS + " interventions are allowed per request.")
+    private List<@Valid @NotNull CreateInterventionRequest> interventions;
+
+    // Getters and setters
+    public List<CreateInterventionRequest> getInterventions() { return interventions; }
+    public void setInterventions(List<CreateInterventionRequest> interventions) { this.interventions = interventions; }
+}
@@ -0,0 +1,17 @@
+package com.educational.student_risk_assessment.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public class BulkInterventionProgressRequest {
+    public static final int MAX_UPDATES = 5000;
+
+    @NotEmpty(message = "At least one progress update is required.")
+    @Size(max = MAX_UPDATES, message = "At most " + MAX_UPDATES + " progress updates are allowed per request.")
+    private List<@Valid @NotNull InterventionProgressItem> updates;
+
+    // Getters and setters
+    public List<InterventionProgressItem> getUpdates() { return updates; }
+    public void setUpdates(List<InterventionProgressItem> updates) { this.updates = updates; }
+}
@@ -0,0 +1,89 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a cohort risk score recompute. Counters are updated by the
+ * worker threads as chunks complete.
+ */
+public class CohortRecomputeJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID id;
+    private final String semester;
+    private final int parallelism;
+    private final int chunkSize;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long totalStudents;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final AtomicInteger processedStudents = new AtomicInteger();
+    private final AtomicInteger studentsRescored = new AtomicInteger();
+    private final AtomicInteger chunksCompleted = new AtomicInteger();
+
+    // Constructors
+    public CohortRecomputeJob(String semester, int parallelism, int chunkSize) {
+        this.id = UUID.randomUUID();
+        this.semester = semester;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start(long totalStudents) {
+        this.totalStudents = totalStudents;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void chunkCompleted(int students, int rescored) {
+        processedStudents.addAndGet(students);
+        studentsRescored.addAndGet(rescored);
+        chunksCompleted.incrementAndGet();
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // Getters
+    public UUID getId() { return id; }
+    public String getSemester() { return semester; }
+    public int getParallelism() { return parallelism; }
+    public int getChunkSize() { return chunkSize; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Status getStatus() { return status; }
+    public long getTotalStudents() { return totalStudents; }
+    public int getProcessedStudents() { return processedStudents.get(); }
+    public int getStudentsRescored() { return studentsRescored.get(); }
+    public int getChunksCompleted() { return chunksCompleted.get(); }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getError() { return error; }
+
+    public int getPercentComplete() {
+        if (status == Status.COMPLETED) return 100;
+        if (totalStudents == 0) return 0;
+        return (int) Math.min(99, processedStudents.get() * 100L / totalStudents);
+    }
+}
@@ -0,0 +1,84 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class InterventionDetails {
+
+    private UUID id;
+    private StudentReference student;
+    private String interventionType;
+    private LocalDate startDate;
+    private LocalDate targetCompletionDate;
+    private BigDecimal startScore;
+    private BigDecimal currentScore;
+    private BigDecimal goalScore;
+    private String status;
+    private LocalDate completedOn;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public InterventionDetails() {}
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public StudentReference getStudent() { return student; }
+    public void setStudent(StudentReference student) { this.student = student; }
+
+    public String getInterventionType() { return interventionType; }
+    public void setInterventionType(String interventionType) { this.interventionType = interventionType; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getTargetCompletionDate() { return targetCompletionDate; }
+    public void setTargetCompletionDate(LocalDate targetCompletionDate) { this.targetCompletionDate = targetCompletionDate; }
+
+    public BigDecimal getStartScore() { return startScore; }
+    public void setStartScore(BigDecimal startScore) { this.startScore = startScore; }
+
+    public BigDecimal getCurrentScore() { return currentScore; }
+    public void setCurrentScore(BigDecimal currentScore) { this.currentScore = currentScore; }
+
+    public BigDecimal getGoalScore() { return goalScore; }
+    public void setGoalScore(BigDecimal goalScore) { this.goalScore = goalScore; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDate getCompletedOn() { return completedOn; }
+    public void setCompletedOn(LocalDate completedOn) { this.completedOn = completedOn; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public static class StudentReference {
+
+        private UUID id;
+        private String name;
+        private String grade;
+
+        // Constructors
+        public StudentReference() {}
+
+        public StudentReference(UUID id, String name, String grade) {
+            this.id = id;
+            this.name = name;
+            this.grade = grade;
+        }
+
+        // Getters and Setters
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getGrade() { return grade; }
+        public void setGrade(String grade) { this.grade = grade; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.math.BigDecimal;
+
+public class InterventionEffectiveness {
+
+    private String interventionType;
+    private int year;
+    private long totalInterventions;
+    private long completedInterventions;
+    private BigDecimal completionRate;
+    private BigDecimal averageDaysToGoal;
+    private BigDecimal averageProgressRate;
+
+    // Constructors
+    public InterventionEffectiveness() {}
+
+    public InterventionEffectiveness(String interventionType, int year, long totalInterventions,
+                                     long completedInterventions, BigDecimal completionRate,
+                                     BigDecimal averageDaysToGoal, BigDecimal averageProgressRate) {
+        this.interventionType = interventionType;
+        this.year = year;
+        this.totalInterventions = totalInterventions;
+        this.completedInterventions = completedInterventions;
+        this.completionRate = completionRate;
+        this.averageDaysToGoal = averageDaysToGoal;
+        this.averageProgressRate = averageProgressRate;
+    }
+
+    // Getters and Setters
+    public String getInterventionType() { return interventionType; }
+    public void setInterventionType(String interventionType) { this.interventionType = interventionType; }
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public long getTotalInterventions() { return totalInterventions; }
+    public void setTotalInterventions(long totalInterventions) { this.totalInterventions = totalInterventions; }
+
+    public long getCompletedInterventions() { return completedInterventions; }
+    public void setCompletedInterventions(long completedInterventions) { this.completedInterventions = completedInterventions; }
+
+    public BigDecimal getCompletionRate() { return completionRate; }
+    public void setCompletionRate(BigDecimal completionRate) { this.completionRate = completionRate; }
+
+    public BigDecimal getAverageDaysToGoal() { return averageDaysToGoal; }
+    public void setAverageDaysToGoal(BigDecimal averageDaysToGoal) { this.averageDaysToGoal = averageDaysToGoal; }
+
+    public BigDecimal getAverageProgressRate() { return averageProgressRate; }
+    public void setAverageProgressRate(BigDecimal averageProgressRate) { this.averageProgressRate = averageProgressRate; }
+}
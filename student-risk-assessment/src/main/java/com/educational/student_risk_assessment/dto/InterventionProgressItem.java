@@ -0,0 +1,30 @@
+package com.educational.student_risk_assessment.dto;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class InterventionProgressItem {
+    @NotNull(message = "Intervention ID is required.")
+    private UUID interventionId;
+
+    @NotNull(message = "Current score is required.")
+    @DecimalMin(value = "0.0", message = "Current score must be at least 0.")
+    @DecimalMax(value = "100.0", message = "Current score must not exceed 100.")
+    private BigDecimal currentScore;
+
+    // Constructors
+    public InterventionProgressItem() {}
+
+    public InterventionProgressItem(UUID interventionId, BigDecimal currentScore) {
+        this.interventionId = interventionId;
+        this.currentScore = currentScore;
+    }
+
+    // Getters and setters
+    public UUID getInterventionId() { return interventionId; }
+    public void setInterventionId(UUID interventionId) { this.interventionId = interventionId; }
+
+    public BigDecimal getCurrentScore() { return currentScore; }
+    public void setCurrentScore(BigDecimal currentScore) { this.currentScore = currentScore; }
+}
@@ -0,0 +1,39 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class InterventionProgressResult {
+
+    public enum Outcome {
+        UPDATED, NOT_FOUND
+    }
+
+    private UUID interventionId;
+    private Outcome outcome;
+    private BigDecimal currentScore;
+    private String status;
+
+    // Constructors
+    public InterventionProgressResult() {}
+
+    public InterventionProgressResult(UUID interventionId, Outcome outcome, BigDecimal currentScore, String status) {
+        this.interventionId = interventionId;
+        this.outcome = outcome;
+        this.currentScore = currentScore;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public UUID getInterventionId() { return interventionId; }
+    public void setInterventionId(UUID interventionId) { this.interventionId = interventionId; }
+
+    public Outcome getOutcome() { return outcome; }
+    public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+
+    public BigDecimal getCurrentScore() { return currentScore; }
+    public void setCurrentScore(BigDecimal currentScore) { this.currentScore = currentScore; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
@@ -0,0 +1,105 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a roster sync: how many feed rows were read and how many
+ * students were inserted, updated, withdrawn or left untouched. The first
+ * {@value #MAX_ERRORS} rejected rows are kept with their reasons.
+ */
+public class RosterSyncJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static final int MAX_ERRORS = 100;
+
+    private final UUID id;
+    private final String file;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong withdrawn = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> rejectedRows = Collections.synchronizedList(new ArrayList<>());
+
+    // Constructors
+    public RosterSyncJob(String file) {
+        this.id = UUID.randomUUID();
+        this.file = file;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void written(int insertedStudents, int updatedStudents) {
+        inserted.addAndGet(insertedStudents);
+        updated.addAndGet(updatedStudents);
+    }
+
+    public void withdrawn(int withdrawnStudents) {
+        withdrawn.addAndGet(withdrawnStudents);
+    }
+
+    public void unchanged() {
+        unchanged.incrementAndGet();
+    }
+
+    public void reject(long line, String reason) {
+        if (rowsRejected.incrementAndGet() <= MAX_ERRORS) {
+            rejectedRows.add("line " + line + ": " + reason);
+        }
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // Getters
+    public UUID getId() { return id; }
+    public String getFile() { return file; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Status getStatus() { return status; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getError() { return error; }
+    public long getRowsRead() { return rowsRead.get(); }
+    public long getInserted() { return inserted.get(); }
+    public long getUpdated() { return updated.get(); }
+    public long getWithdrawn() { return withdrawn.get(); }
+    public long getUnchanged() { return unchanged.get(); }
+    public long getRowsRejected() { return rowsRejected.get(); }
+    public List<String> getRejectedRows() { synchronized (rejectedRows) { return List.copyOf(rejectedRows); } }
+}
@@ -0,0 +1,117 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of an SIS CSV import. Counters are updated by the reader and the
+ * worker threads; the first {@value #MAX_ERRORS} rejected rows are kept with
+ * their reasons.
+ */
+public class SisImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static final int MAX_ERRORS = 100;
+
+    private final UUID id;
+    private final SisImportType type;
+    private final String file;
+    private final int workers;
+    private final int batchSize;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> rejectedRows = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> semesters = ConcurrentHashMap.newKeySet();
+    private final List<UUID> recomputeJobIds = Collections.synchronizedList(new ArrayList<>());
+
+    // Constructors
+    public SisImportJob(SisImportType type, String file, int workers, int batchSize) {
+        this.id = UUID.randomUUID();
+        this.type = type;
+        this.file = file;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowsImported(int rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    public void semesterImported(String semester) {
+        semesters.add(semester);
+    }
+
+    public void reject(long line, String reason) {
+        if (rowsRejected.incrementAndGet() <= MAX_ERRORS) {
+            rejectedRows.add("line " + line + ": " + reason);
+        }
+    }
+
+    public void recomputeStarted(UUID recomputeJobId) {
+        recomputeJobIds.add(recomputeJobId);
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // Getters
+    public UUID getId() { return id; }
+    public SisImportType getType() { return type; }
+    public String getFile() { return file; }
+    public int getWorkers() { return workers; }
+    public int getBatchSize() { return batchSize; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Status getStatus() { return status; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getError() { return error; }
+    public long getRowsRead() { return rowsRead.get(); }
+    public long getRowsImported() { return rowsImported.get(); }
+    public long getRowsRejected() { return rowsRejected.get(); }
+    public List<String> getRejectedRows() { synchronized (rejectedRows) { return List.copyOf(rejectedRows); } }
+    public Set<String> getSemesters() { return new TreeSet<>(semesters); }
+    public List<UUID> getRecomputeJobIds() { synchronized (recomputeJobIds) { return List.copyOf(recomputeJobIds); } }
+
+    public long getRowsPerSecond() {
+        if (startedAt == null) return 0;
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return rowsRead.get() * 1000 / millis;
+    }
+}
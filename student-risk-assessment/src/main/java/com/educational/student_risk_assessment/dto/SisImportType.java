@@ -0,0 +1,21 @@
+package com.educational.student_risk_assessment.dto;
+
+import java.util.List;
+
+/**
+ * SIS extract kinds and the CSV header columns each one requires. Columns may
+ * appear in any order; extra columns are ignored.
+ */
+public enum SisImportType {
+    ACADEMIC_PERFORMANCE("student_id", "semester", "course", "grade", "state_assessment_ela", "state_assessment_math"),
+    ATTENDANCE("student_id", "semester", "attendance_rate", "absent_days", "tardy_days"),
+    BEHAVIOR("student_id", "semester", "disciplinary_actions", "suspensions");
+
+    private final List<String> columns;
+
+    SisImportType(String... columns) {
+        this.columns = List.of(columns);
+    }
+
+    public List<String> getColumns() { return columns; }
+}
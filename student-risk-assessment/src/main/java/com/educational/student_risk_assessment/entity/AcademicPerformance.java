@@ -1,5 +1,6 @@
 package com.educational.student_risk_assessment.entity;
 
+import com.educational.student_risk_assessment.event.RiskInputListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 
@@ -8,14 +9,16 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "academic_performance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_academic_student_semester_course",
+                columnNames = {"student_id", "semester_id", "course"}),
         indexes = {
-                @Index(name = "idx_academic_student_semester", columnList = "student_id, semester"),
                 @Index(name = "idx_academic_student_id", columnList = "student_id"),
-                @Index(name = "idx_academic_semester", columnList = "semester"),
+                @Index(name = "idx_academic_semester", columnList = "semester_id"),
                 @Index(name = "idx_academic_grade", columnList = "grade"),
                 @Index(name = "idx_academic_ela_score", columnList = "state_assessment_ela"),
                 @Index(name = "idx_academic_math_score", columnList = "state_assessment_math")
         })
+@EntityListeners(RiskInputListener.class)
 public class AcademicPerformance {
 
     @Id
@@ -26,9 +29,10 @@ public class AcademicPerformance {
     @JoinColumn(name = "student_id", referencedColumnName = "id")
     private Student student;
 
-    @Size(max = 20)
-    @Column(name = "semester", length = 20)
-    private String semester;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "semester_id", referencedColumnName = "id",
+            foreignKey = @ForeignKey(name = "fk_academic_semester"))
+    private Semester semester;
 
     @Size(max = 50)
     @Column(name = "course", length = 50)
@@ -53,8 +57,8 @@ public class AcademicPerformance {
     public Student getStudent() { return student; }
     public void setStudent(Student student) { this.student = student; }
 
-    public String getSemester() { return semester; }
-    public void setSemester(String semester) { this.semester = semester; }
+    public Semester getSemester() { return semester; }
+    public void setSemester(Semester semester) { this.semester = semester; }
 
     public String getCourse() { return course; }
     public void setCourse(String course) { this.course = course; }
@@ -1,21 +1,23 @@
 package com.educational.student_risk_assessment.entity;
 
+import com.educational.student_risk_assessment.event.RiskInputListener;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
 @Table(name = "attendance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_student_semester",
+                columnNames = {"student_id", "semester_id"}),
         indexes = {
-                @Index(name = "idx_attendance_student_semester", columnList = "student_id, semester"),
                 @Index(name = "idx_attendance_student_id", columnList = "student_id"),
-                @Index(name = "idx_attendance_semester", columnList = "semester"),
+                @Index(name = "idx_attendance_semester", columnList = "semester_id"),
                 @Index(name = "idx_attendance_rate", columnList = "attendance_rate"),
                 @Index(name = "idx_attendance_absent_days", columnList = "absent_days"),
                 @Index(name = "idx_attendance_tardy_days", columnList = "tardy_days")
         })
+@EntityListeners(RiskInputListener.class)
 public class Attendance {
 
     @Id
@@ -26,9 +28,10 @@ public class Attendance {
     @JoinColumn(name = "student_id", referencedColumnName = "id")
     private Student student;
 
-    @Size(max = 20)
-    @Column(name = "semester", length = 20)
-    private String semester;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "semester_id", referencedColumnName = "id",
+            foreignKey = @ForeignKey(name = "fk_attendance_semester"))
+    private Semester semester;
 
     @Column(name = "attendance_rate", precision = 5, scale = 2)
     private BigDecimal attendanceRate;
@@ -49,8 +52,8 @@ public class Attendance {
     public Student getStudent() { return student; }
     public void setStudent(Student student) { this.student = student; }
 
-    public String getSemester() { return semester; }
-    public void setSemester(String semester) { this.semester = semester; }
+    public Semester getSemester() { return semester; }
+    public void setSemester(Semester semester) { this.semester = semester; }
 
     public BigDecimal getAttendanceRate() { return attendanceRate; }
     public void setAttendanceRate(BigDecimal attendanceRate) { this.attendanceRate = attendanceRate; }
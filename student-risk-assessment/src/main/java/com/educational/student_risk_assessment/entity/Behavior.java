@@ -1,19 +1,21 @@
 package com.educational.student_risk_assessment.entity;
 
+import com.educational.student_risk_assessment.event.RiskInputListener;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Size;
 
 import java.util.UUID;
 
 @Entity
 @Table(name = "behavior",
+        uniqueConstraints = @UniqueConstraint(name = "uk_behavior_student_semester",
+                columnNames = {"student_id", "semester_id"}),
         indexes = {
-                @Index(name = "idx_behavior_student_semester", columnList = "student_id, semester"),
                 @Index(name = "idx_behavior_student_id", columnList = "student_id"),
-                @Index(name = "idx_behavior_semester", columnList = "semester"),
+                @Index(name = "idx_behavior_semester", columnList = "semester_id"),
                 @Index(name = "idx_behavior_disciplinary", columnList = "disciplinary_actions"),
                 @Index(name = "idx_behavior_suspensions", columnList = "suspensions")
         })
+@EntityListeners(RiskInputListener.class)
 public class Behavior {
 
     @Id
@@ -24,9 +26,10 @@ public class Behavior {
     @JoinColumn(name = "student_id", referencedColumnName = "id")
     private Student student;
 
-    @Size(max = 20)
-    @Column(name = "semester", length = 20)
-    private String semester;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "semester_id", referencedColumnName = "id",
+            foreignKey = @ForeignKey(name = "fk_behavior_semester"))
+    private Semester semester;
 
     @Column(name = "disciplinary_actions")
     private Integer disciplinaryActions = 0;
@@ -44,8 +47,8 @@ public class Behavior {
     public Student getStudent() { return student; }
     public void setStudent(Student student) { this.student = student; }
 
-    public String getSemester() { return semester; }
-    public void setSemester(String semester) { this.semester = semester; }
+    public Semester getSemester() { return semester; }
+    public void setSemester(Semester semester) { this.semester = semester; }
 
     public Integer getDisciplinaryActions() { return disciplinaryActions; }
     public void setDisciplinaryActions(Integer disciplinaryActions) { this.disciplinaryActions = disciplinaryActions; }
@@ -0,0 +1,54 @@
+package com.educational.student_risk_assessment.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Grants a guardian (parent login) access to one student's data.
+ */
+@Entity
+@Table(name = "guardian_students",
+        uniqueConstraints = @UniqueConstraint(name = "uk_guardian_student", columnNames = {"guardian_username", "student_id"}),
+        indexes = @Index(name = "idx_guardian_student_student_id", columnList = "student_id"))
+public class GuardianStudent {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    private UUID id;
+
+    @Column(name = "guardian_username", length = 100, nullable = false)
+    private String guardianUsername;
+
+    @Column(name = "student_id", nullable = false)
+    private UUID studentId;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public GuardianStudent() {}
+
+    public GuardianStudent(String guardianUsername, UUID studentId) {
+        this.guardianUsername = guardianUsername;
+        this.studentId = studentId;
+    }
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getGuardianUsername() { return guardianUsername; }
+    public void setGuardianUsername(String guardianUsername) { this.guardianUsername = guardianUsername; }
+
+    public UUID getStudentId() { return studentId; }
+    public void setStudentId(UUID studentId) { this.studentId = studentId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -3,6 +3,7 @@ package com.educational.student_risk_assessment.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -23,7 +24,8 @@ import java.util.UUID;
 public class Intervention {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -53,6 +55,9 @@ public class Intervention {
     @Column(name = "status", length = 20)
     private String status; // ON_TRACK, NOT_ON_TRACK, COMPLETED
 
+    @Column(name = "completed_on")
+    private LocalDate completedOn;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -88,6 +93,9 @@ public class Intervention {
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
 
+    public LocalDate getCompletedOn() { return completedOn; }
+    public void setCompletedOn(LocalDate completedOn) { this.completedOn = completedOn; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
@@ -0,0 +1,71 @@
+package com.educational.student_risk_assessment.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One recorded score of an intervention. Rows are only ever inserted; the
+ * intervention type is copied in so type-wide range reads stay on this table.
+ */
+@Entity
+@Table(name = "intervention_progress",
+        indexes = {
+                @Index(name = "idx_progress_intervention_recorded", columnList = "intervention_id, recorded_at"),
+                @Index(name = "idx_progress_type_recorded", columnList = "intervention_type, recorded_at")
+        })
+public class InterventionProgressEntry {
+
+    // Pooled sequence values keep inserts batchable, unlike identity columns
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intervention_progress_seq")
+    @SequenceGenerator(name = "intervention_progress_seq", sequenceName = "intervention_progress_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "intervention_id", nullable = false)
+    private UUID interventionId;
+
+    @Column(name = "intervention_type", length = 50)
+    private String interventionType;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Column(name = "score", precision = 5, scale = 2, nullable = false)
+    private BigDecimal score;
+
+    @Column(name = "status", length = 20)
+    private String status;
+
+    // Constructors
+    public InterventionProgressEntry() {}
+
+    public InterventionProgressEntry(Intervention intervention, LocalDateTime recordedAt) {
+        this.interventionId = intervention.getId();
+        this.interventionType = intervention.getInterventionType();
+        this.recordedAt = recordedAt;
+        this.score = intervention.getCurrentScore();
+        this.status = intervention.getStatus();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public UUID getInterventionId() { return interventionId; }
+    public void setInterventionId(UUID interventionId) { this.interventionId = interventionId; }
+
+    public String getInterventionType() { return interventionType; }
+    public void setInterventionType(String interventionType) { this.interventionType = interventionType; }
+
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+
+    public BigDecimal getScore() { return score; }
+    public void setScore(BigDecimal score) { this.score = score; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
@@ -0,0 +1,66 @@
+package com.educational.student_risk_assessment.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Running intervention counters for one start-date year, maintained by
+ * InterventionRollupService.
+ */
+@Entity
+@Table(name = "intervention_rollup")
+public class InterventionRollup {
+
+    @Id
+    @Column(name = "rollup_year")
+    private Integer year;
+
+    @Column(name = "total_interventions", nullable = false)
+    private long totalInterventions;
+
+    @Column(name = "completed_interventions", nullable = false)
+    private long completedInterventions;
+
+    @Column(name = "on_track_interventions", nullable = false)
+    private long onTrackInterventions;
+
+    @Column(name = "not_on_track_interventions", nullable = false)
+    private long notOnTrackInterventions;
+
+    @Column(name = "progress_rate_sum", precision = 19, scale = 4, nullable = false)
+    private BigDecimal progressRateSum = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InterventionRollup() {}
+
+    public InterventionRollup(Integer year) {
+        this.year = year;
+    }
+
+    // Getters and Setters
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+
+    public long getTotalInterventions() { return totalInterventions; }
+    public void setTotalInterventions(long totalInterventions) { this.totalInterventions = totalInterventions; }
+
+    public long getCompletedInterventions() { return completedInterventions; }
+    public void setCompletedInterventions(long completedInterventions) { this.completedInterventions = completedInterventions; }
+
+    public long getOnTrackInterventions() { return onTrackInterventions; }
+    public void setOnTrackInterventions(long onTrackInterventions) { this.onTrackInterventions = onTrackInterventions; }
+
+    public long getNotOnTrackInterventions() { return notOnTrackInterventions; }
+    public void setNotOnTrackInterventions(long notOnTrackInterventions) { this.notOnTrackInterventions = notOnTrackInterventions; }
+
+    public BigDecimal getProgressRateSum() { return progressRateSum; }
+    public void setProgressRateSum(BigDecimal progressRateSum) { this.progressRateSum = progressRateSum; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
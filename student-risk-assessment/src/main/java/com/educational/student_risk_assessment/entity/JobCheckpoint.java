@@ -0,0 +1,68 @@
+package com.educational.student_risk_assessment.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resume point of a chunked background job. The row is advanced in the same
+ * transaction as each chunk, so a restarted job continues after the last
+ * committed key instead of starting over.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_id")
+    private UUID lastId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "changed", nullable = false)
+    private long changed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public JobCheckpoint() {}
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public LocalDate getRunDate() { return runDate; }
+    public void setRunDate(LocalDate runDate) { this.runDate = runDate; }
+
+    public UUID getLastId() { return lastId; }
+    public void setLastId(UUID lastId) { this.lastId = lastId; }
+
+    public boolean isCompleted() { return completed; }
+    public void setCompleted(boolean completed) { this.completed = completed; }
+
+    public long getProcessed() { return processed; }
+    public void setProcessed(long processed) { this.processed = processed; }
+
+    public long getChanged() { return changed; }
+    public void setChanged(long changed) { this.changed = changed; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
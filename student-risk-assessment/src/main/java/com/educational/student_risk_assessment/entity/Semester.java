@@ -0,0 +1,51 @@
+package com.educational.student_risk_assessment.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * A school term such as "2024-Fall". Risk input rows reference it by its
+ * smallint key; interventions map to it through their start date.
+ */
+@Entity
+@Table(name = "semesters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_semester_code", columnNames = "code"),
+        indexes = @Index(name = "idx_semester_dates", columnList = "start_date, end_date"))
+public class Semester {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Short id;
+
+    @Column(name = "code", length = 20, nullable = false)
+    private String code;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // Constructors
+    public Semester() {}
+
+    public Semester(String code, LocalDate startDate, LocalDate endDate) {
+        this.code = code;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // Getters and Setters
+    public Short getId() { return id; }
+    public void setId(Short id) { this.id = id; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+}
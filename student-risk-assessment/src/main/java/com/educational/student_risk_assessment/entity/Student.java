@@ -10,6 +10,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "students",
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_sis_id", columnNames = "sis_id"),
         indexes = {
                 @Index(name = "idx_student_grade", columnList = "grade"),
                 @Index(name = "idx_student_name", columnList = "name"),
@@ -30,10 +31,23 @@ public class Student {
     @Column(name = "grade", length = 10)
     private String grade;
 
+    // Roster key in the student information system; null for students created through the API
+    @Size(max = 20)
+    @Column(name = "sis_id", length = 20)
+    private String sisId;
+
+    // Hash of the roster fields last synced, see RosterSyncService.contentHash
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Set when a roster sync no longer lists the student; the student's history is kept
+    @Column(name = "withdrawn_at")
+    private LocalDateTime withdrawnAt;
+
     // Constructors
     public Student() {}
 
@@ -52,6 +66,15 @@ public class Student {
     public String getGrade() { return grade; }
     public void setGrade(String grade) { this.grade = grade; }
 
+    public String getSisId() { return sisId; }
+    public void setSisId(String sisId) { this.sisId = sisId; }
+
+    public Long getContentHash() { return contentHash; }
+    public void setContentHash(Long contentHash) { this.contentHash = contentHash; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getWithdrawnAt() { return withdrawnAt; }
+    public void setWithdrawnAt(LocalDateTime withdrawnAt) { this.withdrawnAt = withdrawnAt; }
 }
@@ -0,0 +1,94 @@
+package com.educational.student_risk_assessment.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "student_risk_score",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_risk_score_student_semester", columnNames = {"student_id", "semester"})
+        },
+        indexes = {
+                @Index(name = "idx_risk_score_semester_total", columnList = "semester, total_score, student_id"),
+                @Index(name = "idx_risk_score_semester_level", columnList = "semester, risk_level")
+        })
+public class StudentRiskScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", referencedColumnName = "id", nullable = false)
+    private Student student;
+
+    @Size(max = 20)
+    @Column(name = "semester", length = 20, nullable = false)
+    private String semester;
+
+    @Column(name = "academic_score", nullable = false)
+    private Integer academicScore;
+
+    @Column(name = "attendance_score", nullable = false)
+    private Integer attendanceScore;
+
+    @Column(name = "behavior_score", nullable = false)
+    private Integer behaviorScore;
+
+    @Column(name = "tardiness_score", nullable = false)
+    private Integer tardinessScore;
+
+    @Column(name = "total_score", nullable = false)
+    private Integer totalScore;
+
+    @Size(max = 10)
+    @Column(name = "risk_level", length = 10, nullable = false)
+    private String riskLevel;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public StudentRiskScore() {}
+
+    public StudentRiskScore(Student student, String semester) {
+        this.student = student;
+        this.semester = semester;
+    }
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public Student getStudent() { return student; }
+    public void setStudent(Student student) { this.student = student; }
+
+    public String getSemester() { return semester; }
+    public void setSemester(String semester) { this.semester = semester; }
+
+    public Integer getAcademicScore() { return academicScore; }
+    public void setAcademicScore(Integer academicScore) { this.academicScore = academicScore; }
+
+    public Integer getAttendanceScore() { return attendanceScore; }
+    public void setAttendanceScore(Integer attendanceScore) { this.attendanceScore = attendanceScore; }
+
+    public Integer getBehaviorScore() { return behaviorScore; }
+    public void setBehaviorScore(Integer behaviorScore) { this.behaviorScore = behaviorScore; }
+
+    public Integer getTardinessScore() { return tardinessScore; }
+    public void setTardinessScore(Integer tardinessScore) { this.tardinessScore = tardinessScore; }
+
+    public Integer getTotalScore() { return totalScore; }
+    public void setTotalScore(Integer totalScore) { this.totalScore = totalScore; }
+
+    public String getRiskLevel() { return riskLevel; }
+    public void setRiskLevel(String riskLevel) { this.riskLevel = riskLevel; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,22 @@
+package com.educational.student_risk_assessment.event;
+
+import java.util.UUID;
+
+public class GuardianLinkChangedEvent {
+
+    private final String guardianUsername;
+    private final UUID studentId;
+    private final boolean linked;
+
+    public GuardianLinkChangedEvent(String guardianUsername, UUID studentId, boolean linked) {
+        this.guardianUsername = guardianUsername;
+        this.studentId = studentId;
+        this.linked = linked;
+    }
+
+    public String getGuardianUsername() { return guardianUsername; }
+
+    public UUID getStudentId() { return studentId; }
+
+    public boolean isLinked() { return linked; }
+}
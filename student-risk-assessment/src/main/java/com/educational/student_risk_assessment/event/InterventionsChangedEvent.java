@@ -0,0 +1,17 @@
+package com.educational.student_risk_assessment.event;
+
+import java.util.Set;
+
+/**
+ * Published when interventions starting in the given years were created or updated.
+ */
+public class InterventionsChangedEvent {
+
+    private final Set<Integer> years;
+
+    public InterventionsChangedEvent(Set<Integer> years) {
+        this.years = years;
+    }
+
+    public Set<Integer> getYears() { return years; }
+}
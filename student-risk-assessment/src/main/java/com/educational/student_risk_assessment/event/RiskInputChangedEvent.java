@@ -0,0 +1,22 @@
+package com.educational.student_risk_assessment.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a risk input row of a student and semester is written. Carries
+ * the semester id; listeners resolve the code through SemesterService.
+ */
+public class RiskInputChangedEvent {
+
+    private final UUID studentId;
+    private final Short semesterId;
+
+    public RiskInputChangedEvent(UUID studentId, Short semesterId) {
+        this.studentId = studentId;
+        this.semesterId = semesterId;
+    }
+
+    public UUID getStudentId() { return studentId; }
+
+    public Short getSemesterId() { return semesterId; }
+}
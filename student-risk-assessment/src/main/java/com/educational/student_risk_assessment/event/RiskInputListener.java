@@ -0,0 +1,51 @@
+package com.educational.student_risk_assessment.event;
+
+import com.educational.student_risk_assessment.entity.AcademicPerformance;
+import com.educational.student_risk_assessment.entity.Attendance;
+import com.educational.student_risk_assessment.entity.Behavior;
+import com.educational.student_risk_assessment.entity.Semester;
+import com.educational.student_risk_assessment.entity.Student;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on the risk input tables. Every write to an AcademicPerformance,
+ * Attendance or Behavior row publishes a {@link RiskInputChangedEvent} for the
+ * affected student and semester id so the materialized risk score can be refreshed.
+ */
+@Component
+public class RiskInputListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onRiskInputChanged(Object entity) {
+        Student student = null;
+        Semester semester = null;
+
+        if (entity instanceof AcademicPerformance performance) {
+            student = performance.getStudent();
+            semester = performance.getSemester();
+        } else if (entity instanceof Attendance attendance) {
+            student = attendance.getStudent();
+            semester = attendance.getSemester();
+        } else if (entity instanceof Behavior behavior) {
+            student = behavior.getStudent();
+            semester = behavior.getSemester();
+        }
+
+        if (student == null || student.getId() == null || semester == null || semester.getId() == null) {
+            return;
+        }
+
+        // Only the id: a lazy semester reference must not be loaded inside a lifecycle callback
+        eventPublisher.publishEvent(new RiskInputChangedEvent(student.getId(), semester.getId()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.educational.student_risk_assessment.event;
+
+public class RiskRulesChangedEvent {
+
+    private final long version;
+
+    public RiskRulesChangedEvent(long version) {
+        this.version = version;
+    }
+
+    public long getVersion() { return version; }
+}
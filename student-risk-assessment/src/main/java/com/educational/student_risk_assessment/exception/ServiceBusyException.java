@@ -0,0 +1,11 @@
+package com.educational.student_risk_assessment.exception;
+
+/**
+ * Thrown when a bounded worker pool cannot accept more work; mapped to 503.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
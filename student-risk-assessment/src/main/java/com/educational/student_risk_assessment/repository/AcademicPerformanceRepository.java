@@ -10,5 +10,7 @@ import java.util.UUID;
 @Repository
 public interface AcademicPerformanceRepository extends JpaRepository<AcademicPerformance, UUID> {
 
-    List<AcademicPerformance> findByStudentIdAndSemester(UUID studentId, String semester);
+    List<AcademicPerformance> findByStudentIdAndSemesterId(UUID studentId, Short semesterId);
+
+    List<AcademicPerformance> findBySemesterId(Short semesterId);
 }
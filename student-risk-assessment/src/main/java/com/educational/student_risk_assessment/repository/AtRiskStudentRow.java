@@ -0,0 +1,20 @@
+package com.educational.student_risk_assessment.repository;
+
+import java.util.UUID;
+
+/**
+ * Flat at-risk roster row read from the student_risk_score read model. The
+ * score columns are null for a student without a score row for the semester.
+ */
+public interface AtRiskStudentRow {
+
+    UUID getStudentId();
+
+    String getStudentName();
+
+    String getGrade();
+
+    Integer getTotalScore();
+
+    String getRiskLevel();
+}
@@ -4,11 +4,14 @@ import com.educational.student_risk_assessment.entity.Behavior;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BehaviorRepository extends JpaRepository<Behavior, UUID> {
 
-    Optional<Behavior> findByStudentIdAndSemester(UUID studentId, String semester);
+    Optional<Behavior> findByStudentIdAndSemesterId(UUID studentId, Short semesterId);
+
+    List<Behavior> findBySemesterId(Short semesterId);
 }
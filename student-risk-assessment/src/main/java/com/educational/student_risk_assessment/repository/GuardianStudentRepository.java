@@ -0,0 +1,17 @@
+package com.educational.student_risk_assessment.repository;
+
+import com.educational.student_risk_assessment.entity.GuardianStudent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface GuardianStudentRepository extends JpaRepository<GuardianStudent, UUID> {
+
+    Optional<GuardianStudent> findByGuardianUsernameAndStudentId(String guardianUsername, UUID studentId);
+
+    List<GuardianStudent> findByGuardianUsernameOrderByCreatedAt(String guardianUsername);
+}
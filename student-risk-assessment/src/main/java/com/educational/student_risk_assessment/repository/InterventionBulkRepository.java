@@ -0,0 +1,33 @@
+package com.educational.student_risk_assessment.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Batched JDBC writes to the interventions table. Like
+ * {@link StudentBulkRepository}, rows skip JPA, so callers refresh derived
+ * data themselves.
+ */
+@Repository
+public class InterventionBulkRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rows of (status, id, previous status, current_score). A row is set only
+     * while it still holds the status and score it was evaluated from, so a
+     * progress update committed in the meantime is not overwritten. Returns the
+     * update count of each row: 1 when it was set, 0 when it was skipped.
+     */
+    public int[] updateStatusesIfUnchanged(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(
+                "UPDATE interventions SET status = ? WHERE id = ? AND status = ? AND current_score = ?", rows);
+    }
+}
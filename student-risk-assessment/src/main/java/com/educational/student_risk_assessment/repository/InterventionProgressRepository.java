@@ -0,0 +1,33 @@
+package com.educational.student_risk_assessment.repository;
+
+import com.educational.student_risk_assessment.entity.InterventionProgressEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InterventionProgressRepository extends JpaRepository<InterventionProgressEntry, Long> {
+
+    // Served by idx_progress_intervention_recorded
+    @Query("SELECT e FROM InterventionProgressEntry e " +
+            "WHERE e.interventionId = :interventionId AND e.recordedAt >= :from AND e.recordedAt < :to " +
+            "ORDER BY e.recordedAt, e.id")
+    List<InterventionProgressEntry> findForIntervention(@Param("interventionId") UUID interventionId,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    // Served by idx_progress_type_recorded
+    @Query("SELECT e FROM InterventionProgressEntry e " +
+            "WHERE e.interventionType = :interventionType AND e.recordedAt >= :from AND e.recordedAt < :to " +
+            "ORDER BY e.recordedAt, e.id")
+    List<InterventionProgressEntry> findForType(@Param("interventionType") String interventionType,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                Limit limit);
+}
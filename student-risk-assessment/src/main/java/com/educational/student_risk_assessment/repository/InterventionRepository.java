@@ -1,21 +1,71 @@
 package com.educational.student_risk_assessment.repository;
 
 import com.educational.student_risk_assessment.entity.Intervention;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface InterventionRepository extends JpaRepository<Intervention, UUID> {
 
-    List<Intervention> findByStudentId(UUID studentId);
+    // Driven from the student so an unknown id returns no rows, and a student without interventions one empty row
+    @Query("SELECT s.id AS studentId, s.name AS studentName, s.grade AS studentGrade, " +
+            "i.id AS id, i.interventionType AS interventionType, i.startDate AS startDate, " +
+            "i.targetCompletionDate AS targetCompletionDate, i.startScore AS startScore, " +
+            "i.currentScore AS currentScore, i.goalScore AS goalScore, i.status AS status, " +
+            "i.completedOn AS completedOn, i.createdAt AS createdAt " +
+            "FROM Student s LEFT JOIN Intervention i ON i.student = s " +
+            "WHERE s.id = :studentId " +
+            "ORDER BY i.createdAt, i.id")
+    List<StudentInterventionRow> findStudentInterventionRows(@Param("studentId") UUID studentId);
 
-    @Query("SELECT i FROM Intervention i WHERE YEAR(i.startDate) = :year")
-    List<Intervention> findBySemester(@Param("year") Integer year);
+    // Progress rate per intervention, as in InterventionRollupService.progressRate: 100 when the goal
+    // is not above the start score, else the 4 dp progress ratio * 100
+    String PROGRESS_RATE = "CASE WHEN i.goalScore - i.startScore <= 0 THEN 100 " +
+            "ELSE ROUND((i.currentScore - i.startScore) / (i.goalScore - i.startScore), 4) * 100 END";
+
+    @Query("SELECT YEAR(i.startDate) AS year, i.status AS status, COUNT(i) AS interventions, " +
+            "SUM(" + PROGRESS_RATE + ") AS progressRateSum " +
+            "FROM Intervention i " +
+            "WHERE i.startDate IS NOT NULL " +
+            "GROUP BY YEAR(i.startDate), i.status")
+    List<InterventionStatusTotals> summarizeByYearAndStatus();
+
+    // Interventions belong to the semester their start date falls in: a range scan of
+    // idx_intervention_start_date against the one semester row
+    @Query("SELECT YEAR(se.startDate) AS year, i.status AS status, COUNT(i) AS interventions, " +
+            "SUM(" + PROGRESS_RATE + ") AS progressRateSum " +
+            "FROM Semester se JOIN Intervention i ON i.startDate BETWEEN se.startDate AND se.endDate " +
+            "WHERE se.id = :semesterId " +
+            "GROUP BY YEAR(se.startDate), i.status")
+    List<InterventionStatusTotals> summarizeBySemesterAndStatus(@Param("semesterId") Short semesterId);
 
     List<Intervention> findByStatus(String status);
+
+    @Query("SELECT i.interventionType AS interventionType, COUNT(i) AS interventions, " +
+            "SUM(CASE WHEN i.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed, " +
+            "AVG((i.completedOn - i.startDate) BY DAY) AS averageDaysToGoal, " +
+            "AVG(" + PROGRESS_RATE + ") AS averageProgressRate " +
+            "FROM Intervention i " +
+            "WHERE i.startDate >= :from AND i.startDate < :to " +
+            "GROUP BY i.interventionType " +
+            "ORDER BY i.interventionType")
+    List<InterventionTypeTotals> summarizeByType(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    String ACTIVE_WHERE = "WHERE i.status IN ('ON_TRACK', 'NOT_ON_TRACK') " +
+            "AND i.startDate IS NOT NULL AND i.targetCompletionDate IS NOT NULL " +
+            "AND i.startScore IS NOT NULL AND i.currentScore IS NOT NULL AND i.goalScore IS NOT NULL ";
+
+    // Keyset pages of interventions whose on-track status depends on the current date
+    @Query("SELECT i FROM Intervention i " + ACTIVE_WHERE + "ORDER BY i.id")
+    List<Intervention> findActiveOrderById(Limit limit);
+
+    @Query("SELECT i FROM Intervention i " + ACTIVE_WHERE + "AND i.id > :afterId ORDER BY i.id")
+    List<Intervention> findActiveAfterOrderById(@Param("afterId") UUID afterId, Limit limit);
 }
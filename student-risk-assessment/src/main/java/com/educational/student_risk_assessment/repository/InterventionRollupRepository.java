@@ -0,0 +1,39 @@
+package com.educational.student_risk_assessment.repository;
+
+import com.educational.student_risk_assessment.entity.InterventionRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InterventionRollupRepository extends JpaRepository<InterventionRollup, Integer> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterventionRollup r SET " +
+            "r.totalInterventions = r.totalInterventions + :total, " +
+            "r.completedInterventions = r.completedInterventions + :completed, " +
+            "r.onTrackInterventions = r.onTrackInterventions + :onTrack, " +
+            "r.notOnTrackInterventions = r.notOnTrackInterventions + :notOnTrack, " +
+            "r.progressRateSum = r.progressRateSum + :progressRate, " +
+            "r.updatedAt = :updatedAt " +
+            "WHERE r.year = :year")
+    int increment(@Param("year") Integer year,
+                  @Param("total") long total,
+                  @Param("completed") long completed,
+                  @Param("onTrack") long onTrack,
+                  @Param("notOnTrack") long notOnTrack,
+                  @Param("progressRate") BigDecimal progressRate,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM InterventionRollup r")
+    List<InterventionRollup> findAllForUpdate();
+}
@@ -0,0 +1,17 @@
+package com.educational.student_risk_assessment.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Intervention count and summed progress rate for one start-date year and status.
+ */
+public interface InterventionStatusTotals {
+
+    Integer getYear();
+
+    String getStatus();
+
+    Long getInterventions();
+
+    BigDecimal getProgressRateSum();
+}
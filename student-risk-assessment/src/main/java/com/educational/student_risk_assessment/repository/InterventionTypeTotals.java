@@ -0,0 +1,18 @@
+package com.educational.student_risk_assessment.repository;
+
+/**
+ * Effectiveness figures for one intervention type over a start-date range.
+ * Averages skip interventions without the underlying values.
+ */
+public interface InterventionTypeTotals {
+
+    String getInterventionType();
+
+    Long getInterventions();
+
+    Long getCompleted();
+
+    Double getAverageDaysToGoal();
+
+    Double getAverageProgressRate();
+}
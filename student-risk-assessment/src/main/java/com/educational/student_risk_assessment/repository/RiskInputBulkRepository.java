@@ -0,0 +1,148 @@
+package com.educational.student_risk_assessment.repository;
+
+import com.educational.student_risk_assessment.entity.TimeOrderedUuidGenerator;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched JDBC upserts into the risk input tables for bulk imports. Rows skip
+ * the JPA entity listeners, so callers must refresh the materialized risk
+ * scores themselves.
+ *
+ * Each row holds the natural key values followed by the value columns, in the
+ * column order of the matching method. Keys must be unique within a batch.
+ * PostgreSQL gets one INSERT ... ON CONFLICT statement per row. Other databases
+ * get an UPDATE batch and then an INSERT batch for the rows that matched nothing.
+ */
+@Repository
+public class RiskInputBulkRepository {
+
+    private static final Table ACADEMIC_PERFORMANCE = new Table("academic_performance",
+            List.of("student_id", "semester_id", "course"),
+            List.of("grade", "state_assessment_ela", "state_assessment_math"));
+
+    private static final Table ATTENDANCE = new Table("attendance",
+            List.of("student_id", "semester_id"),
+            List.of("attendance_rate", "absent_days", "tardy_days"));
+
+    private static final Table BEHAVIOR = new Table("behavior",
+            List.of("student_id", "semester_id"),
+            List.of("disciplinary_actions", "suspensions"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @PostConstruct
+    void detectDatabase() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equals(product);
+    }
+
+    /**
+     * Rows of (student_id, semester_id, course, grade, state_assessment_ela, state_assessment_math).
+     */
+    public void upsertAcademicPerformance(List<Object[]> rows) {
+        upsert(ACADEMIC_PERFORMANCE, rows);
+    }
+
+    /**
+     * Rows of (student_id, semester_id, attendance_rate, absent_days, tardy_days).
+     */
+    public void upsertAttendance(List<Object[]> rows) {
+        upsert(ATTENDANCE, rows);
+    }
+
+    /**
+     * Rows of (student_id, semester_id, disciplinary_actions, suspensions).
+     */
+    public void upsertBehavior(List<Object[]> rows) {
+        upsert(BEHAVIOR, rows);
+    }
+
+    private void upsert(Table table, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (postgres) {
+            List<Object[]> inserts = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                inserts.add(withId(row));
+            }
+            jdbcTemplate.batchUpdate(table.insertOnConflictSql, inserts);
+            return;
+        }
+
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            updates.add(table.updateParameters(row));
+        }
+        int[] updated = jdbcTemplate.batchUpdate(table.updateSql, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[i] == 0) {
+                inserts.add(withId(rows.get(i)));
+            } else if (updated[i] == Statement.EXECUTE_FAILED) {
+                throw new IllegalStateException("Upsert into " + table.name + " failed");
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(table.insertSql, inserts);
+        }
+    }
+
+    private static Object[] withId(Object[] row) {
+        Object[] parameters = new Object[row.length + 1];
+        parameters[0] = TimeOrderedUuidGenerator.next();
+        System.arraycopy(row, 0, parameters, 1, row.length);
+        return parameters;
+    }
+
+    private static final class Table {
+
+        private final String name;
+        private final int keyCount;
+        private final String insertSql;
+        private final String insertOnConflictSql;
+        private final String updateSql;
+
+        private Table(String name, List<String> keyColumns, List<String> valueColumns) {
+            this.name = name;
+            this.keyCount = keyColumns.size();
+
+            List<String> columns = new ArrayList<>(keyColumns);
+            columns.addAll(valueColumns);
+            this.insertSql = "INSERT INTO " + name + " (id, " + String.join(", ", columns) + ") VALUES (?"
+                    + ", ?".repeat(columns.size()) + ")";
+
+            List<String> excluded = new ArrayList<>();
+            List<String> assignments = new ArrayList<>();
+            for (String column : valueColumns) {
+                excluded.add(column + " = EXCLUDED." + column);
+                assignments.add(column + " = ?");
+            }
+            this.insertOnConflictSql = insertSql + " ON CONFLICT (" + String.join(", ", keyColumns) + ") DO UPDATE SET "
+                    + String.join(", ", excluded);
+            this.updateSql = "UPDATE " + name + " SET " + String.join(", ", assignments) + " WHERE "
+                    + String.join(" = ? AND ", keyColumns) + " = ?";
+        }
+
+        // Value columns first, then the key columns of the WHERE clause
+        private Object[] updateParameters(Object[] row) {
+            Object[] parameters = new Object[row.length];
+            System.arraycopy(row, keyCount, parameters, 0, row.length - keyCount);
+            System.arraycopy(row, 0, parameters, row.length - keyCount, keyCount);
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.educational.student_risk_assessment.repository;
+
+import com.educational.student_risk_assessment.entity.Semester;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SemesterRepository extends JpaRepository<Semester, Short> {
+
+    Optional<Semester> findByCode(String code);
+
+    List<Semester> findAllByOrderByStartDate();
+}
@@ -0,0 +1,57 @@
+package com.educational.student_risk_assessment.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batched JDBC writes of roster changes to the students table. Like
+ * {@link RiskInputBulkRepository}, rows skip JPA, so callers refresh derived
+ * data themselves.
+ */
+@Repository
+public class StudentBulkRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rows of (id, sis_id, name, grade, content_hash, created_at).
+     */
+    public void insertStudents(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO students (id, sis_id, name, grade, content_hash, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    /**
+     * Rows of (name, grade, content_hash, id). Clears withdrawn_at, so a
+     * student back on the roster is active again.
+     */
+    public void updateStudents(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE students SET name = ?, grade = ?, content_hash = ?, withdrawn_at = NULL " +
+                    "WHERE id = ?", rows);
+        }
+    }
+
+    /**
+     * Marks the students withdrawn. Their risk inputs, scores and interventions
+     * are kept.
+     */
+    public void withdrawStudents(List<UUID> studentIds, LocalDateTime withdrawnAt) {
+        if (!studentIds.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(studentIds.size());
+            for (UUID studentId : studentIds) {
+                rows.add(new Object[]{withdrawnAt, studentId});
+            }
+            jdbcTemplate.batchUpdate("UPDATE students SET withdrawn_at = ? WHERE id = ?", rows);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.educational.student_risk_assessment.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A student joined to one of their interventions. A student without
+ * interventions yields a single row whose intervention columns are null.
+ */
+public interface StudentInterventionRow {
+
+    UUID getStudentId();
+
+    String getStudentName();
+
+    String getStudentGrade();
+
+    UUID getId();
+
+    String getInterventionType();
+
+    LocalDate getStartDate();
+
+    LocalDate getTargetCompletionDate();
+
+    BigDecimal getStartScore();
+
+    BigDecimal getCurrentScore();
+
+    BigDecimal getGoalScore();
+
+    String getStatus();
+
+    LocalDate getCompletedOn();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,11 +1,50 @@
 package com.educational.student_risk_assessment.repository;
 
 import com.educational.student_risk_assessment.entity.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, UUID> {
+
+    String SEMESTER_ROW_SELECT =
+            "SELECT s.id AS studentId, s.name AS studentName, s.grade AS studentGrade, " +
+            "p.id AS performanceId, p.grade AS grade, " +
+            "p.stateAssessmentEla AS stateAssessmentEla, p.stateAssessmentMath AS stateAssessmentMath, " +
+            "a.id AS attendanceId, a.attendanceRate AS attendanceRate, " +
+            "a.absentDays AS absentDays, a.tardyDays AS tardyDays, " +
+            "b.id AS behaviorId, b.disciplinaryActions AS disciplinaryActions, b.suspensions AS suspensions " +
+            "FROM Student s " +
+            "LEFT JOIN AcademicPerformance p ON p.student = s AND p.semester.id = :semesterId " +
+            "LEFT JOIN Attendance a ON a.student = s AND a.semester.id = :semesterId " +
+            "LEFT JOIN Behavior b ON b.student = s AND b.semester.id = :semesterId ";
+
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :studentIds")
+    List<UUID> findExistingIds(@Param("studentIds") Collection<UUID> studentIds);
+
+    @Query("SELECT s.id FROM Student s ORDER BY s.id")
+    List<UUID> findIdsOrderById(Limit limit);
+
+    @Query("SELECT s.id FROM Student s WHERE s.id > :afterId ORDER BY s.id")
+    List<UUID> findIdsAfterOrderById(@Param("afterId") UUID afterId, Limit limit);
+
+    // Keyset pages of roster students in sis_id order, read through uk_student_sis_id
+    @Query("SELECT s.id AS id, s.sisId AS sisId, s.contentHash AS contentHash, s.withdrawnAt AS withdrawnAt " +
+            "FROM Student s " +
+            "WHERE s.sisId > :afterSisId ORDER BY s.sisId")
+    List<StudentRosterRow> findRosterAfterOrderBySisId(@Param("afterSisId") String afterSisId, Limit limit);
+
+    @Query(SEMESTER_ROW_SELECT + "WHERE s.id IN :studentIds")
+    List<StudentSemesterRow> findSemesterRows(@Param("studentIds") Collection<UUID> studentIds,
+                                              @Param("semesterId") Short semesterId);
+
+    @Query(SEMESTER_ROW_SELECT + "WHERE p.id IS NOT NULL OR a.id IS NOT NULL OR b.id IS NOT NULL")
+    List<StudentSemesterRow> findSemesterRowsWithData(@Param("semesterId") Short semesterId);
 }
@@ -0,0 +1,101 @@
+package com.educational.student_risk_assessment.repository;
+
+import com.educational.student_risk_assessment.entity.StudentRiskScore;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface StudentRiskScoreRepository extends JpaRepository<StudentRiskScore, UUID> {
+
+    Optional<StudentRiskScore> findByStudentIdAndSemester(UUID studentId, String semester);
+
+    @Query("SELECT r FROM StudentRiskScore r JOIN FETCH r.student " +
+            "WHERE r.student.id = :studentId AND r.semester = :semester")
+    Optional<StudentRiskScore> findWithStudentByStudentIdAndSemester(@Param("studentId") UUID studentId,
+                                                                     @Param("semester") String semester);
+
+    List<StudentRiskScore> findBySemester(String semester);
+
+    List<StudentRiskScore> findBySemesterAndStudentIdIn(String semester, Collection<UUID> studentIds);
+
+    @Query("SELECT DISTINCT r.semester FROM StudentRiskScore r")
+    List<String> findDistinctSemesters();
+
+    @Query("SELECT r FROM StudentRiskScore r JOIN FETCH r.student s " +
+            "WHERE r.semester = :semester AND r.totalScore >= :minimumScore " +
+            "AND (:grade IS NULL OR s.grade = :grade) AND s.withdrawnAt IS NULL " +
+            "ORDER BY r.totalScore DESC, s.id ASC")
+    List<StudentRiskScore> findAtRiskFirstPage(@Param("semester") String semester,
+                                               @Param("minimumScore") Integer minimumScore,
+                                               @Param("grade") String grade,
+                                               Limit limit);
+
+    @Query("SELECT r FROM StudentRiskScore r JOIN FETCH r.student s " +
+            "WHERE r.semester = :semester AND r.totalScore >= :minimumScore " +
+            "AND (:grade IS NULL OR s.grade = :grade) AND s.withdrawnAt IS NULL " +
+            "AND (r.totalScore < :afterScore OR (r.totalScore = :afterScore AND s.id > :afterStudentId)) " +
+            "ORDER BY r.totalScore DESC, s.id ASC")
+    List<StudentRiskScore> findAtRiskPageAfter(@Param("semester") String semester,
+                                               @Param("minimumScore") Integer minimumScore,
+                                               @Param("grade") String grade,
+                                               @Param("afterScore") Integer afterScore,
+                                               @Param("afterStudentId") UUID afterStudentId,
+                                               Limit limit);
+
+    // Unfiltered pages are driven from the students so those without a score row are listed with a score of 0
+    String UNFILTERED_AT_RISK_SELECT = "SELECT s.id AS studentId, s.name AS studentName, s.grade AS grade, " +
+            "r.totalScore AS totalScore, r.riskLevel AS riskLevel " +
+            "FROM Student s LEFT JOIN StudentRiskScore r ON r.student = s AND r.semester = :semester " +
+            "WHERE (:grade IS NULL OR s.grade = :grade) AND s.withdrawnAt IS NULL ";
+
+    @Query(UNFILTERED_AT_RISK_SELECT +
+            "ORDER BY COALESCE(r.totalScore, 0) DESC, s.id ASC")
+    List<AtRiskStudentRow> findAllRiskFirstPage(@Param("semester") String semester,
+                                                @Param("grade") String grade,
+                                                Limit limit);
+
+    @Query(UNFILTERED_AT_RISK_SELECT +
+            "AND (COALESCE(r.totalScore, 0) < :afterScore " +
+            "OR (COALESCE(r.totalScore, 0) = :afterScore AND s.id > :afterStudentId)) " +
+            "ORDER BY COALESCE(r.totalScore, 0) DESC, s.id ASC")
+    List<AtRiskStudentRow> findAllRiskPageAfter(@Param("semester") String semester,
+                                                @Param("grade") String grade,
+                                                @Param("afterScore") Integer afterScore,
+                                                @Param("afterStudentId") UUID afterStudentId,
+                                                Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s.id AS studentId, s.name AS studentName, s.grade AS grade, " +
+            "r.totalScore AS totalScore, r.riskLevel AS riskLevel " +
+            "FROM StudentRiskScore r JOIN r.student s " +
+            "WHERE r.semester = :semester AND r.totalScore >= :minimumScore " +
+            "AND (:grade IS NULL OR s.grade = :grade) AND s.withdrawnAt IS NULL " +
+            "ORDER BY r.totalScore DESC, s.id ASC")
+    Stream<AtRiskStudentRow> streamAtRisk(@Param("semester") String semester,
+                                          @Param("minimumScore") Integer minimumScore,
+                                          @Param("grade") String grade);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(UNFILTERED_AT_RISK_SELECT +
+            "ORDER BY COALESCE(r.totalScore, 0) DESC, s.id ASC")
+    Stream<AtRiskStudentRow> streamAllRisk(@Param("semester") String semester,
+                                           @Param("grade") String grade);
+}
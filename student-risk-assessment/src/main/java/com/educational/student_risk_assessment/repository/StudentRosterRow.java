@@ -0,0 +1,19 @@
+package com.educational.student_risk_assessment.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A roster student's key, the hash of its last synced roster fields and when
+ * it was withdrawn, if it has been.
+ */
+public interface StudentRosterRow {
+
+    UUID getId();
+
+    String getSisId();
+
+    Long getContentHash();
+
+    LocalDateTime getWithdrawnAt();
+}
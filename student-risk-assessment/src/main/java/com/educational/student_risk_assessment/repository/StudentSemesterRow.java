@@ -0,0 +1,40 @@
+package com.educational.student_risk_assessment.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One row of a student's semester risk inputs: the student joined to each of
+ * their academic performance rows and to their attendance and behavior rows.
+ * Columns of a missing side are null.
+ */
+public interface StudentSemesterRow {
+
+    UUID getStudentId();
+
+    String getStudentName();
+
+    String getStudentGrade();
+
+    UUID getPerformanceId();
+
+    BigDecimal getGrade();
+
+    Integer getStateAssessmentEla();
+
+    Integer getStateAssessmentMath();
+
+    UUID getAttendanceId();
+
+    BigDecimal getAttendanceRate();
+
+    Integer getAbsentDays();
+
+    Integer getTardyDays();
+
+    UUID getBehaviorId();
+
+    Integer getDisciplinaryActions();
+
+    Integer getSuspensions();
+}
@@ -0,0 +1,208 @@
+package com.educational.student_risk_assessment.security;
+
+import com.educational.student_risk_assessment.entity.GuardianStudent;
+import com.educational.student_risk_assessment.event.GuardianLinkChangedEvent;
+import com.educational.student_risk_assessment.repository.GuardianStudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory guardian to student access graph used by parent authorization
+ * checks. Loaded at startup, patched after each committed link change and
+ * periodically reloaded so links changed through other instances converge.
+ * Changes committed while a reload reads the table are replayed onto the
+ * reloaded index, so a reload cannot resurrect a revoked link.
+ */
+@Component
+public class GuardianAccessIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(GuardianAccessIndex.class);
+
+    @Autowired
+    private GuardianStudentRepository guardianStudentRepository;
+
+    private volatile ConcurrentHashMap<String, StudentIdSet> byGuardian = new ConcurrentHashMap<>();
+
+    // Serializes patches with the swap of a reloaded index
+    private final Object patchLock = new Object();
+
+    private final Object reloadLock = new Object();
+
+    // Link changes received while a reload reads the table, replayed onto its result before the swap
+    private List<GuardianLinkChangedEvent> changesDuringReload;
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${guardians.access-index.reload-interval:600000}",
+            initialDelayString = "${guardians.access-index.reload-interval:600000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (patchLock) {
+                changesDuringReload = new ArrayList<>();
+            }
+
+            Map<String, List<UUID>> links = new HashMap<>();
+            try {
+                for (GuardianStudent link : guardianStudentRepository.findAll()) {
+                    links.computeIfAbsent(link.getGuardianUsername(), guardian -> new ArrayList<>())
+                            .add(link.getStudentId());
+                }
+            } catch (RuntimeException e) {
+                synchronized (patchLock) {
+                    changesDuringReload = null;
+                }
+                throw e;
+            }
+
+            ConcurrentHashMap<String, StudentIdSet> index = new ConcurrentHashMap<>(Math.max(16, links.size() * 2));
+            links.forEach((guardian, studentIds) -> index.put(guardian, StudentIdSet.of(studentIds)));
+
+            synchronized (patchLock) {
+                // The read may predate these commits; applying a change twice is harmless
+                for (GuardianLinkChangedEvent event : changesDuringReload) {
+                    apply(index, event);
+                }
+                changesDuringReload = null;
+                byGuardian = index;
+            }
+
+            log.debug("Loaded guardian access index: {} guardians", index.size());
+        }
+    }
+
+    public boolean canAccess(String guardianUsername, UUID studentId) {
+        StudentIdSet studentIds = byGuardian.get(guardianUsername);
+        return studentIds != null && studentIds.contains(studentId);
+    }
+
+    public Set<UUID> studentsOf(String guardianUsername) {
+        StudentIdSet studentIds = byGuardian.get(guardianUsername);
+        return studentIds != null ? studentIds.toSet() : Set.of();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuardianLinkChanged(GuardianLinkChangedEvent event) {
+        synchronized (patchLock) {
+            apply(byGuardian, event);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(event);
+            }
+        }
+    }
+
+    private static void apply(ConcurrentHashMap<String, StudentIdSet> index, GuardianLinkChangedEvent event) {
+        UUID studentId = event.getStudentId();
+        if (event.isLinked()) {
+            index.compute(event.getGuardianUsername(), (guardian, current) ->
+                    current == null ? StudentIdSet.of(List.of(studentId)) : current.with(studentId));
+        } else {
+            index.computeIfPresent(event.getGuardianUsername(), (guardian, current) -> current.without(studentId));
+        }
+    }
+
+    /**
+     * Immutable sorted set of student ids packed as (most, least) significant
+     * bit pairs in one long array; membership is a binary search. A guardian
+     * usually has a handful of students, so this is a fraction of a HashSet's
+     * footprint and is replaced wholesale on change.
+     */
+    static final class StudentIdSet {
+
+        private static final Comparator<UUID> ORDER = Comparator
+                .comparingLong(UUID::getMostSignificantBits)
+                .thenComparingLong(UUID::getLeastSignificantBits);
+
+        private final long[] bits;
+
+        private StudentIdSet(long[] bits) {
+            this.bits = bits;
+        }
+
+        static StudentIdSet of(Collection<UUID> studentIds) {
+            TreeSet<UUID> unique = new TreeSet<>(ORDER);
+            unique.addAll(studentIds);
+            UUID[] sorted = unique.toArray(new UUID[0]);
+            long[] bits = new long[sorted.length * 2];
+            for (int i = 0; i < sorted.length; i++) {
+                bits[2 * i] = sorted[i].getMostSignificantBits();
+                bits[2 * i + 1] = sorted[i].getLeastSignificantBits();
+            }
+            return new StudentIdSet(bits);
+        }
+
+        int size() {
+            return bits.length / 2;
+        }
+
+        boolean contains(UUID studentId) {
+            return indexOf(studentId.getMostSignificantBits(), studentId.getLeastSignificantBits()) >= 0;
+        }
+
+        StudentIdSet with(UUID studentId) {
+            long msb = studentId.getMostSignificantBits();
+            long lsb = studentId.getLeastSignificantBits();
+            int index = indexOf(msb, lsb);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -(index + 1);
+            long[] next = new long[bits.length + 2];
+            System.arraycopy(bits, 0, next, 0, insertAt * 2);
+            next[insertAt * 2] = msb;
+            next[insertAt * 2 + 1] = lsb;
+            System.arraycopy(bits, insertAt * 2, next, insertAt * 2 + 2, bits.length - insertAt * 2);
+            return new StudentIdSet(next);
+        }
+
+        // Returns null when the last id is removed so the guardian entry is dropped
+        StudentIdSet without(UUID studentId) {
+            int index = indexOf(studentId.getMostSignificantBits(), studentId.getLeastSignificantBits());
+            if (index < 0) {
+                return this;
+            }
+            if (bits.length == 2) {
+                return null;
+            }
+            long[] next = new long[bits.length - 2];
+            System.arraycopy(bits, 0, next, 0, index * 2);
+            System.arraycopy(bits, index * 2 + 2, next, index * 2, bits.length - index * 2 - 2);
+            return new StudentIdSet(next);
+        }
+
+        Set<UUID> toSet() {
+            Set<UUID> studentIds = new LinkedHashSet<>();
+            for (int i = 0; i < bits.length; i += 2) {
+                studentIds.add(new UUID(bits[i], bits[i + 1]));
+            }
+            return studentIds;
+        }
+
+        // Binary search in ORDER; returns -(insertion point + 1) when absent
+        private int indexOf(long msb, long lsb) {
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = Long.compare(bits[2 * mid], msb);
+                if (cmp == 0) {
+                    cmp = Long.compare(bits[2 * mid + 1], lsb);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package com.educational.student_risk_assessment.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
@@ -16,11 +28,38 @@ public class JwtTokenProvider {
 
     private final SecretKey key;
     private final int jwtExpirationInMs;
+    private final JwtParser parser;
+
+    // Verified tokens keyed by SHA-256 digest, each evicted at its own exp
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(@Value("${spring.security.jwt.secret}") String jwtSecret,
-                            @Value("${spring.security.jwt.expiration}") int jwtExpirationInMs) {
+                            @Value("${spring.security.jwt.expiration}") int jwtExpirationInMs,
+                            @Value("${spring.security.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -40,35 +79,54 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Returns the token's subject and authorities, or null if the token is invalid
+     * or expired. A token seen before is answered from the cache without
+     * re-checking the signature.
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
 
-        return claims.getSubject();
+        VerifiedToken verified = parse(token);
+        if (verified != null) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
     }
 
-    public String getRolesFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private VerifiedToken parse(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getExpiration() == null) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        String roles = claims.get("roles", String.class);
+        if (roles != null && !roles.isEmpty()) {
+            for (String role : roles.split(",")) {
+                authorities.add(new SimpleGrantedAuthority(role));
+            }
+        }
 
-        return claims.get("roles", String.class);
+        return new VerifiedToken(claims.getSubject(), authorities, claims.getExpiration().toInstant());
     }
 
-    public boolean validateToken(String authToken) {
+    private static String digest(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 }
@@ -0,0 +1,28 @@
+package com.educational.student_risk_assessment.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Subject and authorities of a JWT whose signature and expiry have been checked.
+ */
+public class VerifiedToken {
+
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String username, List<GrantedAuthority> authorities, Instant expiresAt) {
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUsername() { return username; }
+
+    public List<GrantedAuthority> getAuthorities() { return authorities; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,118 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.dto.ExportFormat;
+import com.educational.student_risk_assessment.dto.RiskLevel;
+import com.educational.student_risk_assessment.repository.AtRiskStudentRow;
+import com.educational.student_risk_assessment.repository.StudentRiskScoreRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the at-risk roster of a semester straight from a database cursor to
+ * an output stream, so memory use does not grow with the size of the cohort.
+ */
+@Service
+public class AtRiskExportService {
+
+    private static final String CSV_HEADER = "studentId,studentName,grade,riskScore,riskLevel,semester";
+
+    @Autowired
+    private StudentRiskScoreRepository studentRiskScoreRepository;
+
+    @Autowired
+    private RiskScoreCalculator riskScoreCalculator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(String semester, RiskLevel minimumRisk, String grade,
+                       ExportFormat format, OutputStream out) throws IOException {
+        int minimumScore = riskScoreCalculator.minimumScore(minimumRisk);
+        // Students without a score row have no risk inputs and are exported with a score of 0, as on /at-risk
+        String unscoredRiskLevel = riskScoreCalculator.determineRiskLevel(BigDecimal.ZERO);
+
+        try (Stream<AtRiskStudentRow> rows = minimumScore <= 0
+                ? studentRiskScoreRepository.streamAllRisk(semester, grade)
+                : studentRiskScoreRepository.streamAtRisk(semester, minimumScore, grade)) {
+            Iterator<AtRiskStudentRow> iterator = rows.iterator();
+            return format == ExportFormat.CSV
+                    ? writeCsv(iterator, semester, unscoredRiskLevel, out)
+                    : writeNdjson(iterator, semester, unscoredRiskLevel, out);
+        }
+    }
+
+    private long writeNdjson(Iterator<AtRiskStudentRow> rows, String semester, String unscoredRiskLevel,
+                             OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        while (rows.hasNext()) {
+            AtRiskStudentRow row = rows.next();
+            generator.writeStartObject();
+            generator.writeStringField("studentId", row.getStudentId().toString());
+            generator.writeStringField("studentName", row.getStudentName());
+            generator.writeStringField("grade", row.getGrade());
+            generator.writeNumberField("riskScore", row.getTotalScore() != null ? row.getTotalScore() : 0);
+            generator.writeStringField("riskLevel", row.getRiskLevel() != null ? row.getRiskLevel() : unscoredRiskLevel);
+            generator.writeStringField("semester", semester);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<AtRiskStudentRow> rows, String semester, String unscoredRiskLevel,
+                          OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (rows.hasNext()) {
+            AtRiskStudentRow row = rows.next();
+            writer.write(row.getStudentId().toString());
+            writer.write(',');
+            writeCsvField(writer, row.getStudentName());
+            writer.write(',');
+            writeCsvField(writer, row.getGrade());
+            writer.write(',');
+            writer.write(Integer.toString(row.getTotalScore() != null ? row.getTotalScore() : 0));
+            writer.write(',');
+            writer.write(row.getRiskLevel() != null ? row.getRiskLevel() : unscoredRiskLevel);
+            writer.write(',');
+            writeCsvField(writer, semester);
+            writer.write('\n');
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,18 +1,35 @@
 package com.educational.student_risk_assessment.service;
 
+import com.educational.student_risk_assessment.security.GuardianAccessIndex;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 public class AuthorizationService {
 
-    public boolean canAccessStudentData(String studentId, Authentication authentication) {
+    @Autowired
+    private GuardianAccessIndex guardianAccessIndex;
 
+    /**
+     * Admins may access any student; a parent only students linked to them.
+     * Answered from the in-memory access index without a database query.
+     */
+    public boolean canAccessStudentData(String studentId, Authentication authentication) {
+        if (authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"))) {
+            return true;
+        }
 
-        String username = authentication.getName();
+        UUID studentUuid;
+        try {
+            studentUuid = UUID.fromString(studentId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
 
-        return username.startsWith("parent_") ||
-                authentication.getAuthorities().stream()
-                        .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+        return guardianAccessIndex.canAccess(authentication.getName(), studentUuid);
     }
 }
@@ -0,0 +1,199 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.config.CacheConfig;
+import com.educational.student_risk_assessment.dto.CohortRecomputeJob;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.repository.StudentRiskScoreRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Recomputes a semester's materialized risk scores for every student. Student
+ * ids are walked in keyset order and each chunk is rescored in its own
+ * transaction on a worker pool whose size is capped below the JDBC pool size.
+ * Jobs run one at a time in submission order.
+ */
+@Service
+public class CohortRecomputeService {
+
+    private static final Logger log = LoggerFactory.getLogger(CohortRecomputeService.class);
+
+    private static final int RETAINED_JOBS = 50;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentRiskScoreRepository studentRiskScoreRepository;
+
+    @Autowired
+    private RiskScoreProjectionService riskScoreProjectionService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${risk.recompute.parallelism:0}")
+    private int configuredParallelism;
+
+    @Value("${risk.recompute.chunk-size:1000}")
+    private int chunkSize;
+
+    private int parallelism;
+    private ExecutorService workers;
+    private ExecutorService coordinator;
+
+    private final Map<UUID, CohortRecomputeJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, CohortRecomputeJob> eldest) {
+                    return size() > RETAINED_JOBS && eldest.getValue().isFinished();
+                }
+            });
+
+    @PostConstruct
+    void startExecutors() {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("risk.recompute.chunk-size must be positive");
+        }
+        parallelism = effectiveParallelism(configuredParallelism, maximumPoolSize(dataSource));
+        workers = Executors.newFixedThreadPool(parallelism, namedThreads("cohort-recompute-"));
+        coordinator = Executors.newSingleThreadExecutor(namedThreads("cohort-recompute-coordinator-"));
+        log.info("Cohort recompute parallelism {} with chunks of {} students", parallelism, chunkSize);
+    }
+
+    @PreDestroy
+    void stopExecutors() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public CohortRecomputeJob start(String semester) {
+        CohortRecomputeJob job = new CohortRecomputeJob(semester, parallelism, chunkSize);
+        jobs.put(job.getId(), job);
+        coordinator.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Queues a recompute of every semester with materialized scores, e.g. after
+     * the risk rules were reloaded.
+     */
+    public List<CohortRecomputeJob> startAllSemesters() {
+        List<CohortRecomputeJob> started = new ArrayList<>();
+        for (String semester : studentRiskScoreRepository.findDistinctSemesters()) {
+            started.add(start(semester));
+        }
+        return started;
+    }
+
+    public CohortRecomputeJob getJob(UUID jobId) {
+        CohortRecomputeJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Recompute job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(CohortRecomputeJob job) {
+        job.start(studentRepository.count());
+        // At most `parallelism` chunks are loaded or in flight at a time
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try {
+            List<UUID> ids = studentRepository.findIdsOrderById(Limit.of(chunkSize));
+            while (!ids.isEmpty()) {
+                List<UUID> chunk = ids;
+                permits.acquire();
+                // A failed chunk releases its permit, so no further chunk is submitted after it
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        int rescored = riskScoreProjectionService.rescoreStudents(chunk, job.getSemester());
+                        job.chunkCompleted(chunk.size(), rescored);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, workers));
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+                ids = studentRepository.findIdsAfterOrderById(ids.get(ids.size() - 1), Limit.of(chunkSize));
+            }
+
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+            clearCachedAssessments();
+            job.complete();
+            log.info("Recomputed {} risk scores for {} in {} chunks",
+                    job.getStudentsRescored(), job.getSemester(), job.getChunksCompleted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Cohort recompute for {} failed", job.getSemester(), cause);
+            job.fail(cause.getMessage());
+        }
+    }
+
+    // Rescoring bypasses the per-row input events, so cached assessments of the semester may be stale
+    private void clearCachedAssessments() {
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENT_RISK_ASSESSMENTS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    static int effectiveParallelism(int configured, int maximumPoolSize) {
+        int requested = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+        // Leave one connection for request handling and the coordinator's id queries
+        return Math.max(1, Math.min(requested, maximumPoolSize - 1));
+    }
+
+    static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Unable to read the connection pool size", e);
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
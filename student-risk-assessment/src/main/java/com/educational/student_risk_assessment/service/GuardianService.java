@@ -0,0 +1,57 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.entity.GuardianStudent;
+import com.educational.student_risk_assessment.event.GuardianLinkChangedEvent;
+import com.educational.student_risk_assessment.repository.GuardianStudentRepository;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class GuardianService {
+
+    @Autowired
+    private GuardianStudentRepository guardianStudentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void linkStudent(String guardianUsername, UUID studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new EntityNotFoundException("Student not found with ID: " + studentId);
+        }
+        if (guardianStudentRepository.findByGuardianUsernameAndStudentId(guardianUsername, studentId).isEmpty()) {
+            guardianStudentRepository.save(new GuardianStudent(guardianUsername, studentId));
+        }
+        eventPublisher.publishEvent(new GuardianLinkChangedEvent(guardianUsername, studentId, true));
+    }
+
+    @Transactional
+    public void unlinkStudent(String guardianUsername, UUID studentId) {
+        GuardianStudent link = guardianStudentRepository.findByGuardianUsernameAndStudentId(guardianUsername, studentId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Student " + studentId + " is not linked to guardian " + guardianUsername));
+
+        guardianStudentRepository.delete(link);
+        eventPublisher.publishEvent(new GuardianLinkChangedEvent(guardianUsername, studentId, false));
+    }
+
+    public List<UUID> getLinkedStudents(String guardianUsername) {
+        List<UUID> studentIds = new ArrayList<>();
+        for (GuardianStudent link : guardianStudentRepository.findByGuardianUsernameOrderByCreatedAt(guardianUsername)) {
+            studentIds.add(link.getStudentId());
+        }
+        return studentIds;
+    }
+}
@@ -0,0 +1,69 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.config.CacheConfig;
+import com.educational.student_risk_assessment.dto.InterventionEffectiveness;
+import com.educational.student_risk_assessment.event.InterventionsChangedEvent;
+import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.InterventionTypeTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Completion rate, mean days to goal and mean progress rate per intervention
+ * type for one start-date year, from a single grouped query. Results are
+ * cached per year and evicted once intervention writes for that year commit.
+ */
+@Service
+public class InterventionEffectivenessService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Autowired
+    private InterventionRepository interventionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Cacheable(cacheNames = CacheConfig.INTERVENTION_EFFECTIVENESS, key = "#year")
+    @Transactional(readOnly = true)
+    public List<InterventionEffectiveness> getEffectiveness(int year) {
+        List<InterventionEffectiveness> results = new ArrayList<>();
+        for (InterventionTypeTotals totals : interventionRepository.summarizeByType(
+                LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1))) {
+
+            long interventions = totals.getInterventions();
+            long completed = totals.getCompleted();
+            BigDecimal completionRate = interventions > 0
+                    ? BigDecimal.valueOf(completed).multiply(HUNDRED)
+                    .divide(BigDecimal.valueOf(interventions), 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+
+            results.add(new InterventionEffectiveness(totals.getInterventionType(), year, interventions, completed,
+                    completionRate, round(totals.getAverageDaysToGoal()), round(totals.getAverageProgressRate())));
+        }
+        return results;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionsChanged(InterventionsChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.INTERVENTION_EFFECTIVENESS);
+        if (cache != null) {
+            event.getYears().forEach(cache::evict);
+        }
+    }
+
+    private static BigDecimal round(Double value) {
+        return value != null ? BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP) : null;
+    }
+}
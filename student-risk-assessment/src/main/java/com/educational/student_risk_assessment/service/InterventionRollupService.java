@@ -0,0 +1,292 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.InterventionRollup;
+import com.educational.student_risk_assessment.entity.Semester;
+import com.educational.student_risk_assessment.event.InterventionsChangedEvent;
+import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.InterventionRollupRepository;
+import com.educational.student_risk_assessment.repository.InterventionStatusTotals;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Maintains per-year intervention counters. Writes apply deltas in the caller's
+ * transaction with atomic increments; a year's row is created in its own
+ * transaction on first use. A scheduled reconcile rebuilds every year from the
+ * interventions table to repair drift.
+ */
+@Service
+public class InterventionRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(InterventionRollupService.class);
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Autowired
+    private InterventionRollupRepository interventionRollupRepository;
+
+    @Autowired
+    private InterventionRepository interventionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate newTransaction;
+
+    @PostConstruct
+    void createTransactionTemplate() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<InterventionRollup> findByYear(int year) {
+        return interventionRollupRepository.findById(year);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Intervention intervention) {
+        Changes changes = new Changes();
+        changes.created(intervention);
+        record(changes);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Intervention intervention, String previousStatus, BigDecimal previousCurrentScore) {
+        Changes changes = new Changes();
+        changes.updated(intervention, previousStatus, previousCurrentScore);
+        record(changes);
+    }
+
+    /**
+     * Applies accumulated changes with one increment per affected year.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Changes changes) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Integer, InterventionRollup> entry : changes.byYear.entrySet()) {
+            apply(entry.getKey(), entry.getValue(), now);
+        }
+        if (!changes.byYear.isEmpty()) {
+            eventPublisher.publishEvent(new InterventionsChangedEvent(Set.copyOf(changes.byYear.keySet())));
+        }
+    }
+
+    @Scheduled(cron = "${interventions.rollup.reconcile-cron:0 30 2 * * *}")
+    @Transactional
+    public int reconcile() {
+        // Locking existing rows first makes concurrent deltas wait until the rebuilt values are committed
+        Map<Integer, InterventionRollup> stored = new HashMap<>();
+        for (InterventionRollup rollup : interventionRollupRepository.findAllForUpdate()) {
+            stored.put(rollup.getYear(), rollup);
+        }
+
+        Map<Integer, InterventionRollup> actual = new HashMap<>();
+        for (InterventionStatusTotals totals : interventionRepository.summarizeByYearAndStatus()) {
+            add(actual.computeIfAbsent(totals.getYear(), InterventionRollup::new), totals);
+        }
+
+        int repaired = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (InterventionRollup expected : actual.values()) {
+            InterventionRollup rollup = stored.remove(expected.getYear());
+            if (rollup == null) {
+                rollup = new InterventionRollup(expected.getYear());
+            } else if (matches(rollup, expected)) {
+                continue;
+            }
+            rollup.setTotalInterventions(expected.getTotalInterventions());
+            rollup.setCompletedInterventions(expected.getCompletedInterventions());
+            rollup.setOnTrackInterventions(expected.getOnTrackInterventions());
+            rollup.setNotOnTrackInterventions(expected.getNotOnTrackInterventions());
+            rollup.setProgressRateSum(expected.getProgressRateSum());
+            rollup.setUpdatedAt(now);
+            interventionRollupRepository.save(rollup);
+            repaired++;
+        }
+
+        // Years that no longer have any interventions
+        interventionRollupRepository.deleteAll(stored.values());
+        repaired += stored.size();
+
+        if (repaired > 0) {
+            log.warn("Intervention rollup reconcile repaired {} year(s)", repaired);
+        }
+        return repaired;
+    }
+
+    /**
+     * Counters for the interventions whose start date falls within a semester,
+     * computed from the interventions table with the yearly rollup's rules.
+     */
+    public InterventionRollup summarizeSemester(Semester semester) {
+        InterventionRollup totals = new InterventionRollup();
+        for (InterventionStatusTotals statusTotals : interventionRepository.summarizeBySemesterAndStatus(semester.getId())) {
+            add(totals, statusTotals);
+        }
+        return totals;
+    }
+
+    private static void add(InterventionRollup rollup, InterventionStatusTotals totals) {
+        long count = totals.getInterventions();
+        rollup.setTotalInterventions(rollup.getTotalInterventions() + count);
+        switch (String.valueOf(totals.getStatus())) {
+            case "COMPLETED":
+                rollup.setCompletedInterventions(count);
+                break;
+            case "ON_TRACK":
+                rollup.setOnTrackInterventions(count);
+                break;
+            case "NOT_ON_TRACK":
+                rollup.setNotOnTrackInterventions(count);
+                break;
+        }
+        if (totals.getProgressRateSum() != null) {
+            rollup.setProgressRateSum(rollup.getProgressRateSum().add(totals.getProgressRateSum()));
+        }
+    }
+
+    private void apply(int year, InterventionRollup delta, LocalDateTime now) {
+        if (delta.getTotalInterventions() == 0 && delta.getCompletedInterventions() == 0
+                && delta.getOnTrackInterventions() == 0 && delta.getNotOnTrackInterventions() == 0
+                && delta.getProgressRateSum().signum() == 0) {
+            return;
+        }
+
+        if (increment(year, delta, now) == 0) {
+            // First intervention of the year: create the row on its own, so a concurrent first write
+            // that wins the insert cannot roll back the caller's transaction, then retry. A plain JDBC
+            // insert, as Hibernate would log the expected unique violation as an error
+            try {
+                newTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                        "INSERT INTO intervention_rollup (rollup_year, total_interventions, completed_interventions, " +
+                                "on_track_interventions, not_on_track_interventions, progress_rate_sum, updated_at) " +
+                                "VALUES (?, 0, 0, 0, 0, 0, ?)", year, now));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Intervention rollup for {} created concurrently", year);
+            }
+            increment(year, delta, now);
+        }
+    }
+
+    private int increment(int year, InterventionRollup delta, LocalDateTime now) {
+        return interventionRollupRepository.increment(year,
+                delta.getTotalInterventions(),
+                delta.getCompletedInterventions(),
+                delta.getOnTrackInterventions(),
+                delta.getNotOnTrackInterventions(),
+                delta.getProgressRateSum(),
+                now);
+    }
+
+    static BigDecimal progressRate(Intervention intervention, BigDecimal currentScore) {
+        if (intervention.getStartScore() == null || intervention.getGoalScore() == null) {
+            return null;
+        }
+
+        BigDecimal scoreRange = intervention.getGoalScore().subtract(intervention.getStartScore());
+
+        if (scoreRange.compareTo(BigDecimal.ZERO) <= 0) {
+            return HUNDRED; // Already at or past goal
+        }
+        if (currentScore == null) {
+            return null;
+        }
+
+        BigDecimal actualProgress = currentScore.subtract(intervention.getStartScore());
+
+        return actualProgress.divide(scoreRange, 4, RoundingMode.HALF_UP).multiply(HUNDRED);
+    }
+
+    private static boolean matches(InterventionRollup stored, InterventionRollup expected) {
+        return stored.getTotalInterventions() == expected.getTotalInterventions()
+                && stored.getCompletedInterventions() == expected.getCompletedInterventions()
+                && stored.getOnTrackInterventions() == expected.getOnTrackInterventions()
+                && stored.getNotOnTrackInterventions() == expected.getNotOnTrackInterventions()
+                && stored.getProgressRateSum().compareTo(expected.getProgressRateSum()) == 0;
+    }
+
+    /**
+     * Per-year counter deltas collected from intervention writes.
+     */
+    public static final class Changes {
+
+        private final Map<Integer, InterventionRollup> byYear = new HashMap<>();
+
+        public void created(Intervention intervention) {
+            if (intervention.getStartDate() == null) {
+                return;
+            }
+            InterventionRollup delta = delta(intervention);
+            delta.setTotalInterventions(delta.getTotalInterventions() + 1);
+            add(delta, intervention.getStatus(), 1, progressRate(intervention, intervention.getCurrentScore()));
+        }
+
+        public void updated(Intervention intervention, String previousStatus, BigDecimal previousCurrentScore) {
+            if (intervention.getStartDate() == null) {
+                return;
+            }
+            InterventionRollup delta = delta(intervention);
+            add(delta, previousStatus, -1, progressRate(intervention, previousCurrentScore));
+            add(delta, intervention.getStatus(), 1, progressRate(intervention, intervention.getCurrentScore()));
+        }
+
+        /**
+         * A status change written without touching the entity, at an unchanged current score.
+         */
+        public void statusChanged(Intervention intervention, String previousStatus, String status) {
+            if (intervention.getStartDate() == null) {
+                return;
+            }
+            InterventionRollup delta = delta(intervention);
+            BigDecimal progressRate = progressRate(intervention, intervention.getCurrentScore());
+            add(delta, previousStatus, -1, progressRate);
+            add(delta, status, 1, progressRate);
+        }
+
+        private InterventionRollup delta(Intervention intervention) {
+            return byYear.computeIfAbsent(intervention.getStartDate().getYear(), year -> new InterventionRollup());
+        }
+
+        private static void add(InterventionRollup delta, String status, int sign, BigDecimal progressRate) {
+            if ("COMPLETED".equals(status)) {
+                delta.setCompletedInterventions(delta.getCompletedInterventions() + sign);
+            } else if ("ON_TRACK".equals(status)) {
+                delta.setOnTrackInterventions(delta.getOnTrackInterventions() + sign);
+            } else if ("NOT_ON_TRACK".equals(status)) {
+                delta.setNotOnTrackInterventions(delta.getNotOnTrackInterventions() + sign);
+            }
+            if (progressRate != null) {
+                BigDecimal signed = sign > 0 ? progressRate : progressRate.negate();
+                delta.setProgressRateSum(delta.getProgressRateSum().add(signed));
+            }
+        }
+    }
+}
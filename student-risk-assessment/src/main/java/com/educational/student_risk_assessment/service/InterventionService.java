@@ -1,31 +1,54 @@
 package com.educational.student_risk_assessment.service;
 
 import com.educational.student_risk_assessment.dto.CreateInterventionRequest;
+import com.educational.student_risk_assessment.dto.InterventionDetails;
+import com.educational.student_risk_assessment.dto.InterventionProgressItem;
+import com.educational.student_risk_assessment.dto.InterventionProgressResult;
 import com.educational.student_risk_assessment.dto.InterventionProgressUpdate;
 import com.educational.student_risk_assessment.dto.InterventionSummary;
 import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.InterventionProgressEntry;
+import com.educational.student_risk_assessment.entity.InterventionRollup;
 import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.repository.InterventionProgressRepository;
 import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.StudentInterventionRow;
 import com.educational.student_risk_assessment.repository.StudentRepository;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.regex.Pattern;
 
 @Service
 public class InterventionService {
 
+    private static final Pattern YEAR = Pattern.compile("\\d{4}");
+
     @Autowired
     private InterventionRepository interventionRepository;
 
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private InterventionRollupService interventionRollupService;
+
+    @Autowired
+    private InterventionProgressRepository interventionProgressRepository;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    @Transactional
     public Intervention createIntervention(CreateInterventionRequest request) {
 
         Student student = studentRepository.findById(request.getStudentId())
@@ -37,6 +60,57 @@ public class InterventionService {
         }
 
 
+        Intervention saved = interventionRepository.save(newIntervention(student, request));
+        interventionRollupService.recordCreated(saved);
+        interventionProgressRepository.save(new InterventionProgressEntry(saved, LocalDateTime.now()));
+
+        return saved;
+    }
+
+    /**
+     * Creates all interventions in one transaction, or none of them. Students are
+     * validated with a single query and the rows are written as JDBC batches.
+     */
+    @Transactional
+    public List<UUID> createInterventions(List<CreateInterventionRequest> requests) {
+        Set<UUID> studentIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateInterventionRequest request = requests.get(i);
+            if (request.getTargetCompletionDate().isBefore(request.getStartDate())) {
+                throw new IllegalArgumentException("Target completion date cannot be before start date (interventions[" + i + "])");
+            }
+            studentIds.add(request.getStudentId());
+        }
+
+        Set<UUID> missing = new HashSet<>(studentIds);
+        missing.removeAll(studentRepository.findExistingIds(studentIds));
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Students not found with IDs: " + missing);
+        }
+
+        InterventionRollupService.Changes changes = new InterventionRollupService.Changes();
+        List<Intervention> interventions = new ArrayList<>(requests.size());
+        for (CreateInterventionRequest request : requests) {
+            // Existence was checked above, so a reference avoids loading every student
+            Intervention intervention = newIntervention(studentRepository.getReferenceById(request.getStudentId()), request);
+            interventions.add(intervention);
+            changes.created(intervention);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = new ArrayList<>(requests.size());
+        List<InterventionProgressEntry> history = new ArrayList<>(requests.size());
+        for (Intervention saved : interventionRepository.saveAll(interventions)) {
+            ids.add(saved.getId());
+            history.add(new InterventionProgressEntry(saved, now));
+        }
+        interventionRollupService.record(changes);
+        interventionProgressRepository.saveAll(history);
+
+        return ids;
+    }
+
+    private Intervention newIntervention(Student student, CreateInterventionRequest request) {
         Intervention intervention = new Intervention();
         intervention.setStudent(student);
         intervention.setInterventionType(request.getInterventionType());
@@ -46,86 +120,179 @@ public class InterventionService {
         intervention.setCurrentScore(request.getStartScore());
         intervention.setGoalScore(request.getGoalScore());
         intervention.setStatus("ON_TRACK");
-
-        return interventionRepository.save(intervention);
+        return intervention;
     }
 
+    @Transactional
     public Intervention updateInterventionProgress(String interventionId,
                                                    InterventionProgressUpdate update) {
         UUID interventionUuid = UUID.fromString(interventionId);
         Intervention intervention = interventionRepository.findById(interventionUuid)
                 .orElseThrow(() -> new RuntimeException("Intervention not found with ID: " + interventionId));
 
-        intervention.setCurrentScore(update.getCurrentScore());
+        String previousStatus = intervention.getStatus();
+        BigDecimal previousCurrentScore = intervention.getCurrentScore();
 
+        applyProgress(intervention, update.getCurrentScore(), LocalDate.now());
 
-        boolean onTrack = isStudentOnTrack(interventionId);
-        intervention.setStatus(onTrack ? "ON_TRACK" : "NOT_ON_TRACK");
+        Intervention saved = interventionRepository.save(intervention);
+        interventionRollupService.recordUpdated(saved, previousStatus, previousCurrentScore);
+        interventionProgressRepository.save(new InterventionProgressEntry(saved, LocalDateTime.now()));
 
+        return saved;
+    }
 
-        if (update.getCurrentScore().compareTo(intervention.getGoalScore()) >= 0) {
-            intervention.setStatus("COMPLETED");
+    @Transactional
+    public List<InterventionProgressResult> updateInterventionProgressBatch(List<InterventionProgressItem> updates) {
+        Set<UUID> ids = new HashSet<>();
+        for (InterventionProgressItem update : updates) {
+            ids.add(update.getInterventionId());
+        }
+
+        Map<UUID, Intervention> interventions = new HashMap<>();
+        for (Intervention intervention : interventionRepository.findAllById(ids)) {
+            interventions.put(intervention.getId(), intervention);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        List<InterventionProgressEntry> history = new ArrayList<>(updates.size());
+        InterventionRollupService.Changes changes = new InterventionRollupService.Changes();
+        List<InterventionProgressResult> results = new ArrayList<>(updates.size());
+
+        for (InterventionProgressItem update : updates) {
+            Intervention intervention = interventions.get(update.getInterventionId());
+            if (intervention == null) {
+                results.add(new InterventionProgressResult(update.getInterventionId(),
+                        InterventionProgressResult.Outcome.NOT_FOUND, null, null));
+                continue;
+            }
+
+            String previousStatus = intervention.getStatus();
+            BigDecimal previousCurrentScore = intervention.getCurrentScore();
+
+            applyProgress(intervention, update.getCurrentScore(), today);
+            changes.updated(intervention, previousStatus, previousCurrentScore);
+            history.add(new InterventionProgressEntry(intervention, now));
+
+            results.add(new InterventionProgressResult(intervention.getId(),
+                    InterventionProgressResult.Outcome.UPDATED, intervention.getCurrentScore(), intervention.getStatus()));
         }
 
-        return interventionRepository.save(intervention);
+        // Loaded entities are managed; the changes are flushed as JDBC batches (hibernate.jdbc.batch_size)
+        interventionRollupService.record(changes);
+        interventionProgressRepository.saveAll(history);
+
+        return results;
     }
 
-    public List<Intervention> getStudentInterventions(String studentId) {
-        UUID studentUuid = UUID.fromString(studentId);
+    private void applyProgress(Intervention intervention, BigDecimal currentScore, LocalDate today) {
+        intervention.setCurrentScore(currentScore);
 
+        boolean onTrack = isOnTrack(intervention, today);
+        intervention.setStatus(onTrack ? "ON_TRACK" : "NOT_ON_TRACK");
 
-        studentRepository.findById(studentUuid)
-                .orElseThrow(() -> new RuntimeException("Student not found with ID: " + studentId));
 
-        return interventionRepository.findByStudentId(studentUuid);
+        if (currentScore.compareTo(intervention.getGoalScore()) >= 0) {
+            intervention.setStatus("COMPLETED");
+            if (intervention.getCompletedOn() == null) {
+                intervention.setCompletedOn(today);
+            }
+        } else {
+            intervention.setCompletedOn(null);
+        }
     }
 
-    public InterventionSummary getInterventionSummary(String semester) {
-        int year;
+    /**
+     * Recorded scores of one intervention between two days (inclusive), oldest first.
+     * Defaults to the whole history up to today.
+     */
+    @Transactional(readOnly = true)
+    public List<InterventionProgressEntry> getProgressHistory(String interventionId, LocalDate from, LocalDate to) {
+        LocalDate fromDay = from != null ? from : LocalDate.EPOCH;
+        LocalDate toDay = to != null ? to : LocalDate.now();
+        validateRange(fromDay, toDay);
+
+        return interventionProgressRepository.findForIntervention(UUID.fromString(interventionId),
+                fromDay.atStartOfDay(), toDay.plusDays(1).atStartOfDay());
+    }
 
-        try {
-            year = Integer.parseInt(semester);
-        } catch (NumberFormatException e) {
-            throw new RuntimeException("Invalid semester format. Expected year format like '2024'");
+    /**
+     * Recorded scores of every intervention of one type between two days (inclusive), oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<InterventionProgressEntry> getProgressHistoryByType(String interventionType, LocalDate from,
+                                                                    LocalDate to, int limit) {
+        LocalDate toDay = to != null ? to : LocalDate.now();
+        validateRange(from, toDay);
+
+        return interventionProgressRepository.findForType(interventionType,
+                from.atStartOfDay(), toDay.plusDays(1).atStartOfDay(), Limit.of(limit));
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
         }
+    }
 
-        List<Intervention> interventions = interventionRepository.findBySemester(year);
-
-        int totalInterventions = interventions.size();
-        int completedInterventions = 0;
-        int onTrackInterventions = 0;
-        int notOnTrackInterventions = 0;
-        BigDecimal totalProgressRate = BigDecimal.ZERO;
-
-        for (Intervention intervention : interventions) {
-            switch (intervention.getStatus()) {
-                case "COMPLETED":
-                    completedInterventions++;
-                    break;
-                case "ON_TRACK":
-                    onTrackInterventions++;
-                    break;
-                case "NOT_ON_TRACK":
-                    notOnTrackInterventions++;
-                    break;
-            }
+    @Transactional(readOnly = true)
+    public List<InterventionDetails> getStudentInterventions(String studentId) {
+        UUID studentUuid = UUID.fromString(studentId);
+
+        List<StudentInterventionRow> rows = interventionRepository.findStudentInterventionRows(studentUuid);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("Student not found with ID: " + studentId);
+        }
 
+        InterventionDetails.StudentReference student = new InterventionDetails.StudentReference(
+                rows.get(0).getStudentId(), rows.get(0).getStudentName(), rows.get(0).getStudentGrade());
 
-            BigDecimal progressRate = calculateProgressRate(intervention);
-            totalProgressRate = totalProgressRate.add(progressRate);
+        List<InterventionDetails> interventions = new ArrayList<>(rows.size());
+        for (StudentInterventionRow row : rows) {
+            if (row.getId() == null) {
+                continue;
+            }
+            InterventionDetails details = new InterventionDetails();
+            details.setId(row.getId());
+            details.setStudent(student);
+            details.setInterventionType(row.getInterventionType());
+            details.setStartDate(row.getStartDate());
+            details.setTargetCompletionDate(row.getTargetCompletionDate());
+            details.setStartScore(row.getStartScore());
+            details.setCurrentScore(row.getCurrentScore());
+            details.setGoalScore(row.getGoalScore());
+            details.setStatus(row.getStatus());
+            details.setCompletedOn(row.getCompletedOn());
+            details.setCreatedAt(row.getCreatedAt());
+            interventions.add(details);
         }
+        return interventions;
+    }
 
+    @Transactional(readOnly = true)
+    public InterventionSummary getInterventionSummary(String semester) {
+        InterventionRollup rollup;
+
+        // A bare year reads the maintained yearly counters; a semester code counts its date range
+        if (semester != null && YEAR.matcher(semester).matches()) {
+            rollup = interventionRollupService.findByYear(Integer.parseInt(semester))
+                    .orElseGet(InterventionRollup::new);
+        } else {
+            rollup = interventionRollupService.summarizeSemester(semesterService.resolve(semester));
+        }
 
+        long totalInterventions = rollup.getTotalInterventions();
         BigDecimal averageProgressRate = totalInterventions > 0 ?
-                totalProgressRate.divide(new BigDecimal(totalInterventions), 2, RoundingMode.HALF_UP) :
+                rollup.getProgressRateSum().divide(BigDecimal.valueOf(totalInterventions), 2, RoundingMode.HALF_UP) :
                 BigDecimal.ZERO;
 
         return new InterventionSummary(
                 semester,
-                totalInterventions,
-                completedInterventions,
-                onTrackInterventions,
-                notOnTrackInterventions,
+                (int) totalInterventions,
+                (int) rollup.getCompletedInterventions(),
+                (int) rollup.getOnTrackInterventions(),
+                (int) rollup.getNotOnTrackInterventions(),
                 averageProgressRate
         );
     }
@@ -136,9 +303,12 @@ public class InterventionService {
         Intervention intervention = interventionRepository.findById(interventionUUID)
                 .orElseThrow(() -> new RuntimeException("Intervention not found with ID: " + interventionId));
 
+        return isOnTrack(intervention, LocalDate.now());
+    }
+
+    static boolean isOnTrack(Intervention intervention, LocalDate currentDate) {
         LocalDate startDate = intervention.getStartDate();
         LocalDate targetDate = intervention.getTargetCompletionDate();
-        LocalDate currentDate = LocalDate.now();
 
 
         long totalDays = ChronoUnit.DAYS.between(startDate, targetDate);
@@ -169,17 +339,4 @@ public class InterventionService {
         return scoreProgress >= (timeProgress * 0.8);
     }
 
-
-    private BigDecimal calculateProgressRate(Intervention intervention) {
-        BigDecimal scoreRange = intervention.getGoalScore().subtract(intervention.getStartScore());
-
-        if (scoreRange.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.valueOf(100); // Already at or past goal
-        }
-
-        BigDecimal actualProgress = intervention.getCurrentScore().subtract(intervention.getStartScore());
-
-        return actualProgress.divide(scoreRange, 4, RoundingMode.HALF_UP)
-                .multiply(new BigDecimal("100"));
-    }
 }
@@ -0,0 +1,137 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.JobCheckpoint;
+import com.educational.student_risk_assessment.repository.InterventionBulkRepository;
+import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.JobCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-evaluates ON_TRACK / NOT_ON_TRACK for interventions nobody has posted
+ * progress on, since the expected progress moves with the calendar. Active
+ * interventions are walked in id order, one chunk per transaction; only rows
+ * whose status flips are updated, in one JDBC batch of conditional UPDATEs that
+ * skip rows a progress update changed in the meantime. The checkpoint advances with each
+ * chunk.
+ */
+@Service
+public class InterventionStatusRefreshService {
+
+    private static final Logger log = LoggerFactory.getLogger(InterventionStatusRefreshService.class);
+
+    static final String JOB_NAME = "intervention-status-refresh";
+
+    @Autowired
+    private InterventionRepository interventionRepository;
+
+    @Autowired
+    private InterventionBulkRepository interventionBulkRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private InterventionRollupService interventionRollupService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${interventions.status-refresh.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${interventions.status-refresh.cron:0 15 1 * * *}")
+    public void scheduledRefresh() {
+        refresh(LocalDate.now());
+    }
+
+    /**
+     * Runs (or resumes) the refresh for the given day. A run that already
+     * completed for that day is not repeated.
+     */
+    public JobCheckpoint refresh(LocalDate today) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!jobCheckpointRepository.existsById(JOB_NAME)) {
+                JobCheckpoint checkpoint = new JobCheckpoint(JOB_NAME);
+                checkpoint.setRunDate(today);
+                checkpoint.setUpdatedAt(LocalDateTime.now());
+                jobCheckpointRepository.save(checkpoint);
+            }
+        });
+
+        JobCheckpoint checkpoint;
+        do {
+            checkpoint = transactionTemplate.execute(status -> refreshChunk(today));
+        } while (!checkpoint.isCompleted());
+
+        log.info("Intervention status refresh for {}: {} scanned, {} changed",
+                today, checkpoint.getProcessed(), checkpoint.getChanged());
+        return checkpoint;
+    }
+
+    private JobCheckpoint refreshChunk(LocalDate today) {
+        // The row lock also keeps a second instance from processing the same chunk
+        JobCheckpoint checkpoint = jobCheckpointRepository.findForUpdate(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("Missing checkpoint for " + JOB_NAME));
+
+        if (!today.equals(checkpoint.getRunDate())) {
+            checkpoint.setRunDate(today);
+            checkpoint.setLastId(null);
+            checkpoint.setCompleted(false);
+            checkpoint.setProcessed(0);
+            checkpoint.setChanged(0);
+        }
+        if (checkpoint.isCompleted()) {
+            return checkpoint;
+        }
+
+        List<Intervention> chunk = checkpoint.getLastId() == null
+                ? interventionRepository.findActiveOrderById(Limit.of(chunkSize))
+                : interventionRepository.findActiveAfterOrderById(checkpoint.getLastId(), Limit.of(chunkSize));
+
+        List<Intervention> flipped = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Intervention intervention : chunk) {
+            String status = InterventionService.isOnTrack(intervention, today) ? "ON_TRACK" : "NOT_ON_TRACK";
+            if (!status.equals(intervention.getStatus())) {
+                flipped.add(intervention);
+                rows.add(new Object[]{status, intervention.getId(), intervention.getStatus(),
+                        intervention.getCurrentScore()});
+            }
+        }
+        int[] counts = interventionBulkRepository.updateStatusesIfUnchanged(rows);
+
+        // Rows changed by a progress update since the chunk was read are left to that update
+        InterventionRollupService.Changes changes = new InterventionRollupService.Changes();
+        int changed = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 1) {
+                changes.statusChanged(flipped.get(i), (String) rows.get(i)[2], (String) rows.get(i)[0]);
+                changed++;
+            }
+        }
+        interventionRollupService.record(changes);
+
+        checkpoint.setProcessed(checkpoint.getProcessed() + chunk.size());
+        checkpoint.setChanged(checkpoint.getChanged() + changed);
+        if (chunk.size() < chunkSize) {
+            checkpoint.setCompleted(true);
+        } else {
+            checkpoint.setLastId(chunk.get(chunk.size() - 1).getId());
+        }
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return checkpoint;
+    }
+}
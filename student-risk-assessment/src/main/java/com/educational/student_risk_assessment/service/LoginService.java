@@ -0,0 +1,105 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.exception.ServiceBusyException;
+import com.educational.student_risk_assessment.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password verification (BCrypt) on a dedicated fixed pool sized to the
+ * cores, so a login burst queues here instead of occupying request threads.
+ * When the bounded queue is full new logins are rejected immediately.
+ */
+@Service
+public class LoginService {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.login.threads:0}")
+    private int configuredThreads;
+
+    @Value("${auth.login.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private Timer successTimer;
+    private Timer failureTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void start() {
+        int threads = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        successTimer = Timer.builder("auth.login").tag("outcome", "success")
+                .description("Login latency including queueing").register(meterRegistry);
+        failureTimer = Timer.builder("auth.login").tag("outcome", "failure")
+                .description("Login latency including queueing").register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("Logins rejected because the login pool was saturated").register(meterRegistry);
+        Gauge.builder("auth.login.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Logins waiting for a login thread").register(meterRegistry);
+        Gauge.builder("auth.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Logins currently verifying a password").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifies the credentials on the login pool and completes with a signed JWT,
+     * or exceptionally with the authentication failure.
+     *
+     * @throws ServiceBusyException if the login queue is full
+     */
+    public CompletableFuture<String> login(String username, String password) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                boolean success = false;
+                try {
+                    Authentication authentication = authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(username, password));
+                    String jwt = tokenProvider.generateToken(authentication);
+                    success = true;
+                    return jwt;
+                } finally {
+                    (success ? successTimer : failureTimer).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException("Too many concurrent logins, please retry shortly");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.config.CacheConfig;
+import com.educational.student_risk_assessment.event.RiskInputChangedEvent;
+import com.educational.student_risk_assessment.event.RiskRulesChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Evicts cached risk assessments when their inputs change. Runs after
+ * {@link RiskScoreProjectionService} has committed the refreshed score so a
+ * concurrent read cannot re-cache the stale row.
+ */
+@Component
+public class RiskAssessmentCacheEvictor {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onRiskInputChanged(RiskInputChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENT_RISK_ASSESSMENTS);
+        if (cache != null) {
+            cache.evict(cacheKey(event.getStudentId(), semesterService.codeOf(event.getSemesterId())));
+        }
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onRiskRulesChanged(RiskRulesChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENT_RISK_ASSESSMENTS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public static String cacheKey(UUID studentId, String semester) {
+        return studentId + ":" + semester;
+    }
+}
@@ -1,18 +1,29 @@
 package com.educational.student_risk_assessment.service;
+import com.educational.student_risk_assessment.config.CacheConfig;
 import com.educational.student_risk_assessment.dto.InterventionRecommendation;
 
 import com.educational.student_risk_assessment.dto.AtRiskStudent;
+import com.educational.student_risk_assessment.dto.AtRiskStudentPage;
 import com.educational.student_risk_assessment.dto.RiskLevel;
 import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
 import com.educational.student_risk_assessment.entity.*;
 import com.educational.student_risk_assessment.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class RiskAssessmentService {
@@ -21,158 +32,184 @@ public class RiskAssessmentService {
     private StudentRepository studentRepository;
 
     @Autowired
-    private AcademicPerformanceRepository academicPerformanceRepository;
+    private StudentSnapshotLoader studentSnapshotLoader;
 
     @Autowired
-    private AttendanceRepository attendanceRepository;
+    private StudentRiskScoreRepository studentRiskScoreRepository;
 
     @Autowired
-    private BehaviorRepository behaviorRepository;
+    private RiskScoreCalculator riskScoreCalculator;
 
+    @Cacheable(cacheNames = CacheConfig.STUDENT_RISK_ASSESSMENTS,
+            key = "T(java.util.UUID).fromString(#studentId).toString() + ':' + #semester")
     public StudentRiskAssessment calculateRiskScore(String studentId, String semester) {
-        UUID studentUuid = UUID.fromString(studentId);
-        Student student = studentRepository.findById(studentUuid)
-                .orElseThrow(() -> new RuntimeException("Student not found with ID: " + studentId));
-
-
-        BigDecimal academicScore = calculateAcademicRisk(studentUuid, semester);
-        BigDecimal attendanceScore = calculateAttendanceRisk(studentUuid, semester);
-        BigDecimal behaviorScore = calculateBehaviorRisk(studentUuid, semester);
-        BigDecimal tardinessScore = calculateTardinessRisk(studentUuid, semester);
-
+        return assessStudent(studentId, semester);
+    }
 
-        BigDecimal totalScore = academicScore.add(attendanceScore)
-                .add(behaviorScore)
-                .add(tardinessScore);
+    private StudentRiskAssessment assessStudent(String studentId, String semester) {
+        UUID studentUuid = UUID.fromString(studentId);
 
+        Optional<StudentRiskScore> materialized = studentRiskScoreRepository
+                .findWithStudentByStudentIdAndSemester(studentUuid, semester);
+        if (materialized.isPresent()) {
+            return toAssessment(materialized.get().getStudent(), semester, materialized.get());
+        }
 
-        String riskLevel = determineRiskLevel(totalScore);
+        StudentSemesterSnapshot snapshot = studentSnapshotLoader.load(studentUuid, semester)
+                .orElseThrow(() -> new RuntimeException("Student not found with ID: " + studentId));
 
+        return riskScoreCalculator.assess(snapshot);
+    }
 
+    private StudentRiskAssessment toAssessment(Student student, String semester, StudentRiskScore score) {
         StudentRiskAssessment assessment = new StudentRiskAssessment(
-                studentUuid, student.getName(), semester, totalScore, riskLevel
+                student.getId(), student.getName(), semester,
+                BigDecimal.valueOf(score.getTotalScore()), score.getRiskLevel()
         );
-        assessment.setAcademicScore(academicScore);
-        assessment.setAttendanceScore(attendanceScore);
-        assessment.setBehaviorScore(behaviorScore);
-        assessment.setTardinessScore(tardinessScore);
+        assessment.setAcademicScore(BigDecimal.valueOf(score.getAcademicScore()));
+        assessment.setAttendanceScore(BigDecimal.valueOf(score.getAttendanceScore()));
+        assessment.setBehaviorScore(BigDecimal.valueOf(score.getBehaviorScore()));
+        assessment.setTardinessScore(BigDecimal.valueOf(score.getTardinessScore()));
 
         return assessment;
     }
 
-    private BigDecimal calculateAcademicRisk(UUID studentId, String semester) {
-        List<AcademicPerformance> performances = academicPerformanceRepository
-                .findByStudentIdAndSemester(studentId, semester);
+    @Transactional(readOnly = true)
+    public List<AtRiskStudent> identifyAtRiskStudents(String semester, RiskLevel minimumRisk) {
+        List<Student> allStudents = studentRepository.findAll();
 
-        BigDecimal score = BigDecimal.ZERO;
+        // Scores are maintained by RiskScoreProjectionService; students without a row have no risk inputs
+        Map<UUID, StudentRiskScore> scoresByStudent = studentRiskScoreRepository.findBySemester(semester).stream()
+                .collect(Collectors.toMap(score -> score.getStudent().getId(), Function.identity()));
 
-        for (AcademicPerformance performance : performances) {
+        List<AtRiskStudent> atRiskStudents = new ArrayList<>();
 
-            if (performance.getGrade() != null &&
-                    performance.getGrade().compareTo(new BigDecimal("70")) < 0) {
-                score = score.add(new BigDecimal("25"));
+        for (Student student : allStudents) {
+            if (student.getWithdrawnAt() != null) {
+                continue;
             }
+            StudentRiskScore score = scoresByStudent.get(student.getId());
 
-            if (performance.getStateAssessmentEla() != null &&
-                    performance.getStateAssessmentEla() < 500) {
-                score = score.add(new BigDecimal("15"));
-            }
+            BigDecimal totalScore = score != null ? BigDecimal.valueOf(score.getTotalScore()) : BigDecimal.ZERO;
+            String riskLevel = score != null ? score.getRiskLevel() : riskScoreCalculator.determineRiskLevel(totalScore);
 
-            if (performance.getStateAssessmentMath() != null &&
-                    performance.getStateAssessmentMath() < 500) {
-                score = score.add(new BigDecimal("15"));
+            if (shouldIncludeStudent(RiskLevel.valueOf(riskLevel), minimumRisk)) {
+                atRiskStudents.add(new AtRiskStudent(
+                        student.getId(),
+                        student.getName(),
+                        student.getGrade(),
+                        totalScore,
+                        riskLevel,
+                        semester
+                ));
             }
         }
 
-        return score.min(new BigDecimal("40"));
+        return atRiskStudents;
     }
 
-    private BigDecimal calculateAttendanceRisk(UUID studentId, String semester) {
-        return attendanceRepository.findByStudentIdAndSemester(studentId, semester)
-                .map(attendance -> {
-                    BigDecimal score = BigDecimal.ZERO;
+    @Transactional(readOnly = true)
+    public AtRiskStudentPage findAtRiskStudentsPage(String semester, RiskLevel minimumRisk, String grade,
+                                                    String cursor, int size) {
+        int minimumScore = riskScoreCalculator.minimumScore(minimumRisk);
+        String[] position = cursor != null ? decodeCursor(cursor) : null;
+        Limit limit = Limit.of(size + 1);
+
+        List<AtRiskStudent> students = new ArrayList<>();
+        if (minimumScore <= 0) {
+            // Students without a score row have no risk inputs and are listed as a score of 0
+            List<AtRiskStudentRow> rows = position == null
+                    ? studentRiskScoreRepository.findAllRiskFirstPage(semester, grade, limit)
+                    : studentRiskScoreRepository.findAllRiskPageAfter(semester, grade,
+                    Integer.valueOf(position[0]), UUID.fromString(position[1]), limit);
+            for (AtRiskStudentRow row : rows) {
+                students.add(toAtRiskStudent(row, semester));
+            }
+        } else {
+            List<StudentRiskScore> scores = position == null
+                    ? studentRiskScoreRepository.findAtRiskFirstPage(semester, minimumScore, grade, limit)
+                    : studentRiskScoreRepository.findAtRiskPageAfter(semester, minimumScore, grade,
+                    Integer.valueOf(position[0]), UUID.fromString(position[1]), limit);
+            for (StudentRiskScore score : scores) {
+                students.add(toAtRiskStudent(score, semester));
+            }
+        }
 
-                    if (attendance.getAttendanceRate() != null &&
-                            attendance.getAttendanceRate().compareTo(new BigDecimal("90")) < 0) {
-                        score = score.add(new BigDecimal("20"));
-                    }
+        boolean hasMore = students.size() > size;
+        List<AtRiskStudent> content = new ArrayList<>(students.subList(0, Math.min(students.size(), size)));
 
-                    if (attendance.getAbsentDays() != null && attendance.getAbsentDays() > 10) {
-                        score = score.add(new BigDecimal("10"));
-                    }
+        String nextCursor = null;
+        if (hasMore) {
+            AtRiskStudent last = content.get(size - 1);
+            nextCursor = encodeCursor(last.getRiskScore().intValue(), last.getStudentId());
+        }
 
-                    return score.min(new BigDecimal("30"));
-                })
-                .orElse(BigDecimal.ZERO);
+        return new AtRiskStudentPage(content, size, nextCursor);
     }
 
-    private BigDecimal calculateBehaviorRisk(UUID studentId, String semester) {
-        return behaviorRepository.findByStudentIdAndSemester(studentId, semester)
-                .map(behavior -> {
-                    BigDecimal score = BigDecimal.ZERO;
-
-                    if (behavior.getDisciplinaryActions() != null &&
-                            behavior.getDisciplinaryActions() > 2) {
-                        score = score.add(new BigDecimal("15"));
-                    }
-
-                    if (behavior.getSuspensions() != null && behavior.getSuspensions() > 0) {
-                        score = score.add(new BigDecimal("5"));
-                    }
+    @Transactional(readOnly = true)
+    public List<AtRiskStudent> findTopRiskStudents(String semester, String grade, int limit) {
+        // The limit is applied by the database over idx_risk_score_semester_total
+        List<StudentRiskScore> scores = studentRiskScoreRepository.findAtRiskFirstPage(
+                semester, 0, grade, Limit.of(limit));
+
+        List<AtRiskStudent> topStudents = new ArrayList<>(limit);
+        if (scores.size() < limit) {
+            // Too few scored students: rank from the students so unscored ones fill up with a score of 0, as on /at-risk
+            for (AtRiskStudentRow row : studentRiskScoreRepository.findAllRiskFirstPage(
+                    semester, grade, Limit.of(limit))) {
+                topStudents.add(toAtRiskStudent(row, semester));
+            }
+            return topStudents;
+        }
+        for (StudentRiskScore score : scores) {
+            topStudents.add(toAtRiskStudent(score, semester));
+        }
 
-                    return score.min(new BigDecimal("20"));
-                })
-                .orElse(BigDecimal.ZERO);
+        return topStudents;
     }
 
-    private BigDecimal calculateTardinessRisk(UUID studentId, String semester) {
-        return attendanceRepository.findByStudentIdAndSemester(studentId, semester)
-                .map(attendance -> {
-                    BigDecimal score = BigDecimal.ZERO;
-
-                    if (attendance.getTardyDays() != null && attendance.getTardyDays() > 5) {
-                        score = score.add(new BigDecimal("10"));
-                    }
-
-                    return score.min(new BigDecimal("10"));
-                })
-                .orElse(BigDecimal.ZERO);
+    private AtRiskStudent toAtRiskStudent(StudentRiskScore score, String semester) {
+        Student student = score.getStudent();
+        return new AtRiskStudent(
+                student.getId(),
+                student.getName(),
+                student.getGrade(),
+                BigDecimal.valueOf(score.getTotalScore()),
+                score.getRiskLevel(),
+                semester
+        );
     }
 
-    private String determineRiskLevel(BigDecimal totalScore) {
-        if (totalScore.compareTo(new BigDecimal("70")) >= 0) {
-            return RiskLevel.HIGH.name();
-        } else if (totalScore.compareTo(new BigDecimal("40")) >= 0) {
-            return RiskLevel.MEDIUM.name();
-        } else {
-            return RiskLevel.LOW.name();
-        }
+    private AtRiskStudent toAtRiskStudent(AtRiskStudentRow row, String semester) {
+        BigDecimal totalScore = row.getTotalScore() != null ? BigDecimal.valueOf(row.getTotalScore()) : BigDecimal.ZERO;
+        String riskLevel = row.getRiskLevel() != null
+                ? row.getRiskLevel() : riskScoreCalculator.determineRiskLevel(totalScore);
+        return new AtRiskStudent(
+                row.getStudentId(),
+                row.getStudentName(),
+                row.getGrade(),
+                totalScore,
+                riskLevel,
+                semester
+        );
     }
 
-    public List<AtRiskStudent> identifyAtRiskStudents(String semester, RiskLevel minimumRisk) {
-        List<Student> allStudents = studentRepository.findAll();
-        List<AtRiskStudent> atRiskStudents = new ArrayList<>();
-
-        for (Student student : allStudents) {
-            StudentRiskAssessment assessment = calculateRiskScore(
-                    student.getId().toString(), semester
-            );
-
-            RiskLevel studentRiskLevel = RiskLevel.valueOf(assessment.getRiskLevel());
+    private String encodeCursor(int totalScore, UUID studentId) {
+        String position = totalScore + ":" + studentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
 
-            if (shouldIncludeStudent(studentRiskLevel, minimumRisk)) {
-                atRiskStudents.add(new AtRiskStudent(
-                        student.getId(),
-                        student.getName(),
-                        student.getGrade(),
-                        assessment.getTotalRiskScore(),
-                        assessment.getRiskLevel(),
-                        semester
-                ));
-            }
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split(":", 2);
+            Integer.parseInt(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
         }
-
-        return atRiskStudents;
     }
 
     private boolean shouldIncludeStudent(RiskLevel studentLevel, RiskLevel minimumLevel) {
@@ -206,7 +243,7 @@ public class RiskAssessmentService {
 
 
     public List<InterventionRecommendation> recommendInterventionsForStudent(String studentId, String semester) {
-        StudentRiskAssessment assessment = calculateRiskScore(studentId, semester);
+        StudentRiskAssessment assessment = assessStudent(studentId, semester);
 
         List<InterventionRecommendation> recommendations = new ArrayList<>();
 
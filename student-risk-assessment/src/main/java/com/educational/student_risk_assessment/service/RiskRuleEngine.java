@@ -0,0 +1,104 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.config.RiskRuleProperties;
+import com.educational.student_risk_assessment.event.RiskRulesChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active rule set compiled into a {@link RiskScoringKernel}. A reload
+ * compiles and validates the new rules first and then swaps the kernel in a
+ * single atomic write, so every scoring call sees either the old or the new rule
+ * set in full.
+ */
+@Component
+public class RiskRuleEngine {
+
+    private final AtomicReference<CompiledRules> active;
+
+    @Autowired(required = false)
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public RiskRuleEngine(RiskRuleProperties properties) {
+        this.active = new AtomicReference<>(new CompiledRules(compile(properties), properties, 1));
+    }
+
+    public RiskScoringKernel current() {
+        return active.get().kernel;
+    }
+
+    public RiskRuleProperties currentRules() {
+        return active.get().rules;
+    }
+
+    public long currentVersion() {
+        return active.get().version;
+    }
+
+    public long reload(RiskRuleProperties properties) {
+        RiskScoringKernel kernel = compile(properties);
+
+        CompiledRules previous;
+        CompiledRules next;
+        do {
+            previous = active.get();
+            next = new CompiledRules(kernel, properties, previous.version + 1);
+        } while (!active.compareAndSet(previous, next));
+
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new RiskRulesChangedEvent(next.version));
+        }
+        return next.version;
+    }
+
+    public static RiskScoringKernel compile(RiskRuleProperties properties) {
+        RiskRuleProperties.Academic academic = properties.getAcademic();
+        RiskRuleProperties.Attendance attendance = properties.getAttendance();
+        RiskRuleProperties.Behavior behavior = properties.getBehavior();
+        RiskRuleProperties.Tardiness tardiness = properties.getTardiness();
+        RiskRuleProperties.Levels levels = properties.getLevels();
+
+        if (levels.getHighFrom() < levels.getMediumFrom()) {
+            throw new IllegalArgumentException("High risk threshold must not be below the medium risk threshold");
+        }
+
+        return new RiskScoringKernel(
+                hundredths("academic.gradeBelow", academic.getGradeBelow()), academic.getGradePoints(),
+                academic.getElaBelow(), academic.getElaPoints(),
+                academic.getMathBelow(), academic.getMathPoints(), academic.getCap(),
+                hundredths("attendance.rateBelow", attendance.getRateBelow()), attendance.getRatePoints(),
+                attendance.getAbsentDaysAbove(), attendance.getAbsentDaysPoints(), attendance.getCap(),
+                behavior.getDisciplinaryActionsAbove(), behavior.getDisciplinaryActionsPoints(),
+                behavior.getSuspensionsAbove(), behavior.getSuspensionsPoints(), behavior.getCap(),
+                tardiness.getTardyDaysAbove(), tardiness.getTardyDaysPoints(), tardiness.getCap(),
+                levels.getHighFrom(), levels.getMediumFrom());
+    }
+
+    private static int hundredths(String name, BigDecimal threshold) {
+        if (threshold == null) {
+            throw new IllegalArgumentException("Risk rule " + name + " is required");
+        }
+        try {
+            return threshold.movePointRight(2).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Risk rule " + name + " must have at most two decimal places");
+        }
+    }
+
+    private static final class CompiledRules {
+        private final RiskScoringKernel kernel;
+        private final RiskRuleProperties rules;
+        private final long version;
+
+        private CompiledRules(RiskScoringKernel kernel, RiskRuleProperties rules, long version) {
+            this.kernel = kernel;
+            this.rules = rules;
+            this.version = version;
+        }
+    }
+}
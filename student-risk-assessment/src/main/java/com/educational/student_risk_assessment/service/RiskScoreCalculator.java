@@ -0,0 +1,68 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.dto.RiskLevel;
+import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Applies the active {@link RiskScoringKernel} to student semester snapshots
+ * for the per-student and materialized score paths. Performs no repository
+ * access.
+ */
+@Component
+public class RiskScoreCalculator {
+
+    private final RiskRuleEngine riskRuleEngine;
+
+    public RiskScoreCalculator(RiskRuleEngine riskRuleEngine) {
+        this.riskRuleEngine = riskRuleEngine;
+    }
+
+    public StudentRiskAssessment assess(StudentSemesterSnapshot snapshot) {
+        RiskScoringKernel kernel = riskRuleEngine.current();
+        int academicPoints = academicPoints(kernel, snapshot);
+        int attendancePoints = snapshot.hasAttendance()
+                ? kernel.attendancePoints(snapshot.getAttendanceRateHundredths(), snapshot.getAbsentDays())
+                : 0;
+        int behaviorPoints = snapshot.hasBehavior()
+                ? kernel.behaviorPoints(snapshot.getDisciplinaryActions(), snapshot.getSuspensions())
+                : 0;
+        int tardinessPoints = snapshot.hasAttendance() ? kernel.tardinessPoints(snapshot.getTardyDays()) : 0;
+        int totalPoints = academicPoints + attendancePoints + behaviorPoints + tardinessPoints;
+
+        StudentRiskAssessment assessment = new StudentRiskAssessment(
+                snapshot.getStudentId(), snapshot.getStudentName(), snapshot.getSemester(),
+                RiskScoringKernel.toScore(totalPoints), kernel.riskLevel(totalPoints).name()
+        );
+        assessment.setAcademicScore(RiskScoringKernel.toScore(academicPoints));
+        assessment.setAttendanceScore(RiskScoringKernel.toScore(attendancePoints));
+        assessment.setBehaviorScore(RiskScoringKernel.toScore(behaviorPoints));
+        assessment.setTardinessScore(RiskScoringKernel.toScore(tardinessPoints));
+
+        return assessment;
+    }
+
+    private int academicPoints(RiskScoringKernel kernel, StudentSemesterSnapshot snapshot) {
+        int points = 0;
+
+        for (int i = 0; i < snapshot.getPerformanceCount(); i++) {
+            points += kernel.academicRowPoints(
+                    snapshot.getGradeHundredths(i),
+                    snapshot.getStateAssessmentEla(i),
+                    snapshot.getStateAssessmentMath(i));
+        }
+
+        return kernel.capAcademic(points);
+    }
+
+    public String determineRiskLevel(BigDecimal totalScore) {
+        return riskRuleEngine.current().riskLevel(totalScore.setScale(0, RoundingMode.FLOOR).intValueExact()).name();
+    }
+
+    public int minimumScore(RiskLevel level) {
+        return riskRuleEngine.current().minimumScore(level);
+    }
+}
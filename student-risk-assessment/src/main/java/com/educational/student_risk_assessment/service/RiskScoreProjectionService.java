@@ -0,0 +1,136 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
+import com.educational.student_risk_assessment.entity.*;
+import com.educational.student_risk_assessment.event.RiskInputChangedEvent;
+import com.educational.student_risk_assessment.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the student_risk_score read model. A row is recomputed for a single
+ * (student, semester) whenever one of its risk inputs is written, and a whole
+ * semester can be rebuilt from a single snapshot load for backfills. After the
+ * risk rules are reloaded, scores are rebuilt in the background by
+ * {@link CohortRecomputeService}.
+ */
+@Service
+public class RiskScoreProjectionService {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentRiskScoreRepository studentRiskScoreRepository;
+
+    @Autowired
+    private StudentSnapshotLoader studentSnapshotLoader;
+
+    @Autowired
+    private RiskScoreCalculator riskScoreCalculator;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRiskInputChanged(RiskInputChangedEvent event) {
+        refresh(event.getStudentId(), semesterService.codeOf(event.getSemesterId()));
+    }
+
+    @Transactional
+    public StudentRiskScore refresh(UUID studentId, String semester) {
+        StudentSemesterSnapshot snapshot = studentSnapshotLoader.load(studentId, semester)
+                .orElseGet(() -> new StudentSemesterSnapshot(studentId, null, null, semester));
+        StudentRiskAssessment assessment = riskScoreCalculator.assess(snapshot);
+
+        StudentRiskScore score = studentRiskScoreRepository.findByStudentIdAndSemester(studentId, semester)
+                .orElseGet(() -> new StudentRiskScore(studentRepository.getReferenceById(studentId), semester));
+
+        apply(score, assessment);
+        return studentRiskScoreRepository.save(score);
+    }
+
+    @Transactional
+    public int rebuildSemester(String semester) {
+        Map<UUID, StudentSemesterSnapshot> snapshots = studentSnapshotLoader.loadSemester(semester);
+
+        Map<UUID, StudentRiskScore> existingScores = studentRiskScoreRepository.findBySemester(semester).stream()
+                .collect(Collectors.toMap(score -> score.getStudent().getId(), Function.identity()));
+
+        Set<UUID> studentIds = new HashSet<>(snapshots.keySet());
+        studentIds.addAll(existingScores.keySet());
+
+        List<StudentRiskScore> scores = new ArrayList<>(studentIds.size());
+
+        for (UUID studentId : studentIds) {
+            StudentSemesterSnapshot snapshot = snapshots.get(studentId);
+            if (snapshot == null) {
+                // Inputs were removed since the row was written
+                snapshot = new StudentSemesterSnapshot(studentId, null, null, semester);
+            }
+            StudentRiskAssessment assessment = riskScoreCalculator.assess(snapshot);
+
+            StudentRiskScore score = existingScores.get(studentId);
+            if (score == null) {
+                score = new StudentRiskScore(studentRepository.getReferenceById(studentId), semester);
+            }
+
+            apply(score, assessment);
+            scores.add(score);
+        }
+
+        studentRiskScoreRepository.saveAll(scores);
+        return scores.size();
+    }
+
+    /**
+     * Rescores one chunk of students for a semester. Students without risk
+     * inputs only get a row if they already had one.
+     */
+    @Transactional
+    public int rescoreStudents(List<UUID> studentIds, String semester) {
+        Map<UUID, StudentSemesterSnapshot> snapshots = studentSnapshotLoader.loadAll(studentIds, semester);
+
+        Map<UUID, StudentRiskScore> existingScores = studentRiskScoreRepository
+                .findBySemesterAndStudentIdIn(semester, studentIds).stream()
+                .collect(Collectors.toMap(score -> score.getStudent().getId(), Function.identity()));
+
+        List<StudentRiskScore> scores = new ArrayList<>();
+
+        for (StudentSemesterSnapshot snapshot : snapshots.values()) {
+            StudentRiskScore score = existingScores.get(snapshot.getStudentId());
+            if (score == null && !snapshot.hasInputs()) {
+                continue;
+            }
+            if (score == null) {
+                score = new StudentRiskScore(studentRepository.getReferenceById(snapshot.getStudentId()), semester);
+            }
+
+            apply(score, riskScoreCalculator.assess(snapshot));
+            scores.add(score);
+        }
+
+        studentRiskScoreRepository.saveAll(scores);
+        return scores.size();
+    }
+
+    private void apply(StudentRiskScore score, StudentRiskAssessment assessment) {
+        score.setAcademicScore(assessment.getAcademicScore().intValueExact());
+        score.setAttendanceScore(assessment.getAttendanceScore().intValueExact());
+        score.setBehaviorScore(assessment.getBehaviorScore().intValueExact());
+        score.setTardinessScore(assessment.getTardinessScore().intValueExact());
+        score.setTotalScore(assessment.getTotalRiskScore().intValueExact());
+        score.setRiskLevel(assessment.getRiskLevel());
+    }
+}
@@ -0,0 +1,192 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.dto.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Allocation-free risk scoring rules. Decimal inputs (grades and attendance
+ * rates) are passed as fixed-point hundredths floored towards negative infinity,
+ * counts are passed as-is, and missing values are passed as {@link #ABSENT}.
+ * All thresholds are precomputed primitives so scoring a row never touches
+ * BigDecimal.
+ */
+public final class RiskScoringKernel {
+
+    public static final int ABSENT = Integer.MIN_VALUE;
+
+    private static final int CACHED_SCORES = 256;
+    private static final BigDecimal[] SCORES = new BigDecimal[CACHED_SCORES];
+
+    static {
+        for (int i = 0; i < CACHED_SCORES; i++) {
+            SCORES[i] = BigDecimal.valueOf(i);
+        }
+    }
+
+    // Academic: points per performance row, capped per student
+    private final int gradeBelowHundredths;
+    private final int gradePoints;
+    private final int elaBelow;
+    private final int elaPoints;
+    private final int mathBelow;
+    private final int mathPoints;
+    private final int academicCap;
+
+    // Attendance
+    private final int attendanceRateBelowHundredths;
+    private final int attendanceRatePoints;
+    private final int absentDaysAbove;
+    private final int absentDaysPoints;
+    private final int attendanceCap;
+
+    // Behavior
+    private final int disciplinaryActionsAbove;
+    private final int disciplinaryActionsPoints;
+    private final int suspensionsAbove;
+    private final int suspensionsPoints;
+    private final int behaviorCap;
+
+    // Tardiness
+    private final int tardyDaysAbove;
+    private final int tardyDaysPoints;
+    private final int tardinessCap;
+
+    // Risk levels (inclusive lower bounds of the total score)
+    private final int highRiskFrom;
+    private final int mediumRiskFrom;
+
+    public RiskScoringKernel(int gradeBelowHundredths, int gradePoints,
+                             int elaBelow, int elaPoints,
+                             int mathBelow, int mathPoints, int academicCap,
+                             int attendanceRateBelowHundredths, int attendanceRatePoints,
+                             int absentDaysAbove, int absentDaysPoints, int attendanceCap,
+                             int disciplinaryActionsAbove, int disciplinaryActionsPoints,
+                             int suspensionsAbove, int suspensionsPoints, int behaviorCap,
+                             int tardyDaysAbove, int tardyDaysPoints, int tardinessCap,
+                             int highRiskFrom, int mediumRiskFrom) {
+        this.gradeBelowHundredths = gradeBelowHundredths;
+        this.gradePoints = gradePoints;
+        this.elaBelow = elaBelow;
+        this.elaPoints = elaPoints;
+        this.mathBelow = mathBelow;
+        this.mathPoints = mathPoints;
+        this.academicCap = academicCap;
+        this.attendanceRateBelowHundredths = attendanceRateBelowHundredths;
+        this.attendanceRatePoints = attendanceRatePoints;
+        this.absentDaysAbove = absentDaysAbove;
+        this.absentDaysPoints = absentDaysPoints;
+        this.attendanceCap = attendanceCap;
+        this.disciplinaryActionsAbove = disciplinaryActionsAbove;
+        this.disciplinaryActionsPoints = disciplinaryActionsPoints;
+        this.suspensionsAbove = suspensionsAbove;
+        this.suspensionsPoints = suspensionsPoints;
+        this.behaviorCap = behaviorCap;
+        this.tardyDaysAbove = tardyDaysAbove;
+        this.tardyDaysPoints = tardyDaysPoints;
+        this.tardinessCap = tardinessCap;
+        this.highRiskFrom = highRiskFrom;
+        this.mediumRiskFrom = mediumRiskFrom;
+    }
+
+    public int academicRowPoints(int gradeHundredths, int ela, int math) {
+        int points = 0;
+
+        if (gradeHundredths != ABSENT && gradeHundredths < gradeBelowHundredths) {
+            points += gradePoints;
+        }
+
+        if (ela != ABSENT && ela < elaBelow) {
+            points += elaPoints;
+        }
+
+        if (math != ABSENT && math < mathBelow) {
+            points += mathPoints;
+        }
+
+        return points;
+    }
+
+    public int capAcademic(int points) {
+        return Math.min(points, academicCap);
+    }
+
+    public int attendancePoints(int attendanceRateHundredths, int absentDays) {
+        int points = 0;
+
+        if (attendanceRateHundredths != ABSENT && attendanceRateHundredths < attendanceRateBelowHundredths) {
+            points += attendanceRatePoints;
+        }
+
+        if (absentDays != ABSENT && absentDays > absentDaysAbove) {
+            points += absentDaysPoints;
+        }
+
+        return Math.min(points, attendanceCap);
+    }
+
+    public int behaviorPoints(int disciplinaryActions, int suspensions) {
+        int points = 0;
+
+        if (disciplinaryActions != ABSENT && disciplinaryActions > disciplinaryActionsAbove) {
+            points += disciplinaryActionsPoints;
+        }
+
+        if (suspensions != ABSENT && suspensions > suspensionsAbove) {
+            points += suspensionsPoints;
+        }
+
+        return Math.min(points, behaviorCap);
+    }
+
+    public int tardinessPoints(int tardyDays) {
+        int points = 0;
+
+        if (tardyDays != ABSENT && tardyDays > tardyDaysAbove) {
+            points += tardyDaysPoints;
+        }
+
+        return Math.min(points, tardinessCap);
+    }
+
+    public RiskLevel riskLevel(int totalScore) {
+        if (totalScore >= highRiskFrom) {
+            return RiskLevel.HIGH;
+        } else if (totalScore >= mediumRiskFrom) {
+            return RiskLevel.MEDIUM;
+        } else {
+            return RiskLevel.LOW;
+        }
+    }
+
+    public int minimumScore(RiskLevel level) {
+        if (level == null) {
+            return 0;
+        }
+
+        switch (level) {
+            case HIGH: return highRiskFrom;
+            case MEDIUM: return mediumRiskFrom;
+            default: return 0;
+        }
+    }
+
+    public static BigDecimal toScore(int points) {
+        return points >= 0 && points < CACHED_SCORES ? SCORES[points] : BigDecimal.valueOf(points);
+    }
+
+    public static int toHundredths(BigDecimal value) {
+        if (value == null) {
+            return ABSENT;
+        }
+        if (value.scale() == 2 && value.precision() <= 9) {
+            return value.unscaledValue().intValue();
+        }
+        return value.movePointRight(2).setScale(0, RoundingMode.FLOOR).intValueExact();
+    }
+
+    public static int toCount(Integer value) {
+        return value != null ? value : ABSENT;
+    }
+}
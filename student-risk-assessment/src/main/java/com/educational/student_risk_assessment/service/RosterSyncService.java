@@ -0,0 +1,367 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.config.CacheConfig;
+import com.educational.student_risk_assessment.dto.RosterSyncJob;
+import com.educational.student_risk_assessment.repository.StudentBulkRepository;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.repository.StudentRosterRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Synchronizes the students table with a nightly SIS roster file.
+ *
+ * The roster must be sorted by sis_id. It is merged against the stored roster
+ * students, read in sis_id order in keyset pages, so neither side is held in
+ * memory. New students are inserted, and existing ones updated only when the
+ * hash of their roster fields differs from the stored content_hash or they
+ * were withdrawn. Unchanged students are not written at all.
+ *
+ * Inserts and updates are written in batches as the merge advances. Students
+ * missing from the file are only collected; they are marked withdrawn, keeping
+ * their history, in one transaction once the whole file has been read. A sync
+ * that would withdraw more than imports.roster.max-deletes students fails
+ * before withdrawing any, so a truncated or wrong extract cannot empty the
+ * roster. A failed sync leaves the students before the failing row inserted
+ * and updated; running it again completes it.
+ */
+@Service
+public class RosterSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterSyncService.class);
+
+    private static final int RETAINED_JOBS = 50;
+
+    private static final List<String> COLUMNS = List.of("sis_id", "name", "grade");
+
+    // Upper-case letters and digits sort the same in Java and in the database's collation
+    private static final Pattern SIS_ID = Pattern.compile("[A-Z0-9]{1,20}");
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentBulkRepository studentBulkRepository;
+
+    @Autowired
+    private SisImportService sisImportService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${imports.roster.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${imports.roster.max-deletes:500}")
+    private int maxDeletes;
+
+    private ExecutorService coordinator;
+
+    private final Map<UUID, RosterSyncJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, RosterSyncJob> eldest) {
+                    return size() > RETAINED_JOBS && eldest.getValue().isFinished();
+                }
+            });
+
+    @PostConstruct
+    void startExecutor() {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("imports.roster.batch-size must be positive");
+        }
+        if (maxDeletes < 0) {
+            throw new IllegalArgumentException("imports.roster.max-deletes must not be negative");
+        }
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Queues a sync against a roster file in the import directory.
+     */
+    public RosterSyncJob start(String fileName) {
+        Path file = sisImportService.resolve(fileName);
+        RosterSyncJob job = new RosterSyncJob(fileName);
+        jobs.put(job.getId(), job);
+        coordinator.execute(() -> run(job, file));
+        return job;
+    }
+
+    public RosterSyncJob getJob(UUID jobId) {
+        RosterSyncJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Roster sync job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(RosterSyncJob job, Path file) {
+        job.start();
+        Changes changes = new Changes();
+
+        try (CsvRecordReader reader = new CsvRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            int[] columns = columnPositions(reader.next());
+            StoredRoster stored = new StoredRoster();
+            String previous = null;
+
+            String[] record;
+            while ((record = reader.next()) != null) {
+                job.rowRead();
+                long line = reader.getRecordLine();
+                String sisId = field(record, columns[0]).toUpperCase(Locale.ROOT);
+                if (!SIS_ID.matcher(sisId).matches()) {
+                    throw new IllegalArgumentException("line " + line + ": sis_id must be 1-20 letters or digits: '"
+                            + sisId + "'");
+                }
+                if (previous != null && sisId.compareTo(previous) <= 0) {
+                    throw new IllegalArgumentException("line " + line + ": roster must be sorted by sis_id without "
+                            + "duplicates, but " + sisId + " follows " + previous);
+                }
+                previous = sisId;
+
+                // Stored students sorting before this row are no longer on the roster
+                while (stored.peek() != null && stored.peek().getSisId().compareTo(sisId) < 0) {
+                    changes.withdraw(stored.next());
+                }
+                StudentRosterRow current = stored.peek() != null && stored.peek().getSisId().equals(sisId)
+                        ? stored.next() : null;
+                stored.mergedThrough(sisId);
+
+                String name = field(record, columns[1]);
+                String grade = field(record, columns[2]);
+                if (name.isEmpty() || name.length() > 100) {
+                    // The stored student, if any, is kept as it is
+                    job.reject(line, "name must be 1-100 characters");
+                } else if (grade.length() > 10) {
+                    job.reject(line, "grade must be at most 10 characters");
+                } else {
+                    String storedGrade = grade.isEmpty() ? null : grade;
+                    long hash = contentHash(name, storedGrade);
+                    if (current == null) {
+                        changes.insert(sisId, name, storedGrade, hash);
+                    } else if (current.getWithdrawnAt() != null || current.getContentHash() == null
+                            || current.getContentHash() != hash) {
+                        changes.update(current.getId(), name, storedGrade, hash);
+                    } else {
+                        job.unchanged();
+                    }
+                }
+
+                if (changes.size() >= batchSize) {
+                    flush(job, changes);
+                }
+            }
+
+            // Guards against a truncated extract withdrawing the whole roster
+            if (job.getRowsRead() == 0) {
+                throw new IllegalArgumentException("Roster file has no students");
+            }
+            while (stored.peek() != null) {
+                changes.withdraw(stored.next());
+            }
+            flush(job, changes);
+            withdraw(job, changes);
+            job.complete();
+            log.info("Roster sync of {}: {} rows, {} inserted, {} updated, {} withdrawn, {} unchanged, {} rejected",
+                    job.getFile(), job.getRowsRead(), job.getInserted(), job.getUpdated(), job.getWithdrawn(),
+                    job.getUnchanged(), job.getRowsRejected());
+        } catch (IOException | RuntimeException e) {
+            log.error("Roster sync of {} failed", job.getFile(), e);
+            job.fail(e.getMessage());
+        } finally {
+            clearCachedAssessments(job);
+        }
+    }
+
+    private void flush(RosterSyncJob job, Changes changes) {
+        if (changes.size() == 0) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            studentBulkRepository.insertStudents(changes.inserts);
+            studentBulkRepository.updateStudents(changes.updates);
+        });
+        job.written(changes.inserts.size(), changes.updates.size());
+        changes.clear();
+    }
+
+    private void withdraw(RosterSyncJob job, Changes changes) {
+        if (!changes.withdrawals.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    studentBulkRepository.withdrawStudents(changes.withdrawals, LocalDateTime.now()));
+            job.withdrawn(changes.withdrawals.size());
+        }
+    }
+
+    // Cached assessments carry student names
+    private void clearCachedAssessments(RosterSyncJob job) {
+        if (job.getUpdated() > 0 || job.getWithdrawn() > 0) {
+            Cache cache = cacheManager.getCache(CacheConfig.STUDENT_RISK_ASSESSMENTS);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private static int[] columnPositions(String[] header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Roster file is empty");
+        }
+        int[] positions = new int[COLUMNS.size()];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < header.length; i++) {
+            // Tolerate a UTF-8 byte order mark before the first column name
+            String name = (i == 0 ? header[i].replace("\uFEFF", "") : header[i]).trim().toLowerCase(Locale.ROOT);
+            int column = COLUMNS.indexOf(name);
+            if (column >= 0 && positions[column] < 0) {
+                positions[column] = i;
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (int column = 0; column < positions.length; column++) {
+            if (positions[column] < 0) {
+                missing.add(COLUMNS.get(column));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing roster columns: " + missing);
+        }
+        return positions;
+    }
+
+    private static String field(String[] record, int position) {
+        return position < record.length ? record[position].trim() : "";
+    }
+
+    /**
+     * First 8 bytes of the SHA-256 of a student's roster fields. A changed
+     * hash means the stored row needs updating.
+     */
+    static long contentHash(String name, String grade) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            // Unit separator, so ("ab", "c") and ("a", "bc") differ
+            digest.update((byte) 0x1F);
+            if (grade != null) {
+                digest.update(grade.getBytes(StandardCharsets.UTF_8));
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cursor over the stored roster students in sis_id order.
+     */
+    private final class StoredRoster {
+
+        private final Deque<StudentRosterRow> page = new ArrayDeque<>();
+        private String afterSisId = "";
+        private boolean exhausted;
+
+        StudentRosterRow peek() {
+            if (page.isEmpty() && !exhausted) {
+                // Read on the primary: a lagging replica could miss students deleted or inserted by the last sync
+                List<StudentRosterRow> rows = transactionTemplate.execute(status ->
+                        studentRepository.findRosterAfterOrderBySisId(afterSisId, Limit.of(batchSize)));
+                page.addAll(rows);
+                exhausted = rows.size() < batchSize;
+                if (!rows.isEmpty()) {
+                    afterSisId = rows.get(rows.size() - 1).getSisId();
+                }
+            }
+            return page.peekFirst();
+        }
+
+        StudentRosterRow next() {
+            peek();
+            return page.pollFirst();
+        }
+
+        // Students this sync inserted sort at or before the merged row and must not be read back as stored
+        void mergedThrough(String sisId) {
+            if (sisId.compareTo(afterSisId) > 0) {
+                afterSisId = sisId;
+            }
+        }
+    }
+
+    /**
+     * Roster changes waiting to be written, as rows for {@link StudentBulkRepository}.
+     * Withdrawals are held until the file is done.
+     */
+    private final class Changes {
+
+        private final List<Object[]> inserts = new ArrayList<>();
+        private final List<Object[]> updates = new ArrayList<>();
+        private final List<UUID> withdrawals = new ArrayList<>();
+
+        void insert(String sisId, String name, String grade, long hash) {
+            inserts.add(new Object[]{UUID.randomUUID(), sisId, name, grade, hash, LocalDateTime.now()});
+        }
+
+        void update(UUID id, String name, String grade, long hash) {
+            updates.add(new Object[]{name, grade, hash, id});
+        }
+
+        // Students already withdrawn stay as they are
+        void withdraw(StudentRosterRow student) {
+            if (student.getWithdrawnAt() != null) {
+                return;
+            }
+            if (withdrawals.size() >= maxDeletes) {
+                throw new IllegalArgumentException("Roster sync would withdraw more than " + maxDeletes
+                        + " students; no students were withdrawn. Check the roster file or raise "
+                        + "imports.roster.max-deletes");
+            }
+            withdrawals.add(student.getId());
+        }
+
+        int size() {
+            return inserts.size() + updates.size();
+        }
+
+        void clear() {
+            inserts.clear();
+            updates.clear();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.entity.Semester;
+import com.educational.student_risk_assessment.repository.SemesterRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves semester codes such as "2024-Fall" to their Semester rows. The
+ * table holds a handful of rows per year, so all of them are kept in memory;
+ * a code missing from memory is looked up once in case another instance
+ * created it.
+ */
+@Service
+public class SemesterService {
+
+    private static final Logger log = LoggerFactory.getLogger(SemesterService.class);
+
+    private static final Pattern TERM_CODE = Pattern.compile("(\\d{4})-(Spring|Summer|Fall)");
+
+    // Default term boundaries for codes first seen in loaded data; adjust through save()
+    private static final Map<String, MonthDay[]> DEFAULT_TERMS = Map.of(
+            "Spring", new MonthDay[]{MonthDay.of(1, 1), MonthDay.of(5, 31)},
+            "Summer", new MonthDay[]{MonthDay.of(6, 1), MonthDay.of(7, 31)},
+            "Fall", new MonthDay[]{MonthDay.of(8, 1), MonthDay.of(12, 31)});
+
+    @Autowired
+    private SemesterRepository semesterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate newTransaction;
+
+    private final Map<String, Semester> byCode = new ConcurrentHashMap<>();
+    private final Map<Short, Semester> byId = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        semesterRepository.findAll().forEach(this::remember);
+    }
+
+    public Optional<Semester> find(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        Semester semester = byCode.get(code);
+        if (semester == null) {
+            semester = semesterRepository.findByCode(code).map(this::remember).orElse(null);
+        }
+        return Optional.ofNullable(semester);
+    }
+
+    public Semester resolve(String code) {
+        return find(code).orElseThrow(() -> new IllegalArgumentException("Unknown semester: " + code));
+    }
+
+    public String codeOf(Short id) {
+        Semester semester = byId.get(id);
+        if (semester == null) {
+            semester = semesterRepository.findById(id).map(this::remember)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown semester id: " + id));
+        }
+        return semester.getCode();
+    }
+
+    /**
+     * Returns the semester for a code, creating it with the default term dates
+     * when the code has the form YYYY-Spring, YYYY-Summer or YYYY-Fall. Created in
+     * its own transaction so concurrent loaders referencing it see one row.
+     */
+    public Semester getOrCreate(String code) {
+        Optional<Semester> existing = find(code);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Matcher matcher = code != null ? TERM_CODE.matcher(code) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalArgumentException(
+                    "Unknown semester: " + code + ". Create it with explicit start and end dates first");
+        }
+        int year = Integer.parseInt(matcher.group(1));
+        MonthDay[] term = DEFAULT_TERMS.get(matcher.group(2));
+
+        // Plain JDBC insert: losing the race is expected, and Hibernate would log the violation as an error
+        try {
+            newTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO semesters (code, start_date, end_date) VALUES (?, ?, ?)",
+                    code, term[0].atYear(year), term[1].atYear(year)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Semester {} was created concurrently", code);
+        }
+        return resolve(code);
+    }
+
+    public Semester save(String code, LocalDate startDate, LocalDate endDate) {
+        if (code == null || code.isBlank() || code.length() > 20) {
+            throw new IllegalArgumentException("Semester code must be 1-20 characters");
+        }
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("Semester end date must not be before its start date");
+        }
+
+        return remember(newTransaction.execute(status -> {
+            Semester semester = semesterRepository.findByCode(code).orElseGet(() -> new Semester(code, null, null));
+            semester.setStartDate(startDate);
+            semester.setEndDate(endDate);
+            return semesterRepository.save(semester);
+        }));
+    }
+
+    public List<Semester> findAll() {
+        return semesterRepository.findAllByOrderByStartDate();
+    }
+
+    private Semester remember(Semester semester) {
+        byCode.put(semester.getCode(), semester);
+        byId.put(semester.getId(), semester);
+        return semester;
+    }
+}
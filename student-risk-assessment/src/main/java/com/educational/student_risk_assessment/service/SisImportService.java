@@ -0,0 +1,481 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.dto.SisImportJob;
+import com.educational.student_risk_assessment.dto.SisImportType;
+import com.educational.student_risk_assessment.entity.Semester;
+import com.educational.student_risk_assessment.repository.RiskInputBulkRepository;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports SIS CSV extracts into the academic performance, attendance and
+ * behavior tables.
+ *
+ * One reader thread streams the file. It hands records to the workers in
+ * chunks, partitioned by student_id. Each worker has a bounded queue, so a slow
+ * database stalls the reader instead of filling the heap. Workers validate
+ * their chunk and upsert it by natural key in one batched transaction. A key
+ * is only ever written by one worker, so later rows of a key replace earlier
+ * ones in file order.
+ *
+ * Imported rows bypass the per-row risk input events. The semesters of the
+ * committed batches are recomputed through {@link CohortRecomputeService} once
+ * the file is done, or once the workers have stopped after a failure. Imports
+ * run one at a time.
+ */
+@Service
+public class SisImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(SisImportService.class);
+
+    private static final int RETAINED_JOBS = 50;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    // Sent after a partition's last chunk
+    private static final List<RawRecord> END = Collections.emptyList();
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private RiskInputBulkRepository riskInputBulkRepository;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    @Autowired
+    private CohortRecomputeService cohortRecomputeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${imports.sis.directory:imports}")
+    private String directory;
+
+    @Value("${imports.sis.workers:0}")
+    private int configuredWorkers;
+
+    @Value("${imports.sis.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${imports.sis.queue-capacity:4}")
+    private int queueCapacity;
+
+    private int workerCount;
+    private ExecutorService workers;
+    private ExecutorService coordinator;
+
+    private final Map<UUID, SisImportJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, SisImportJob> eldest) {
+                    return size() > RETAINED_JOBS && eldest.getValue().isFinished();
+                }
+            });
+
+    @PostConstruct
+    void startExecutors() {
+        if (batchSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("imports.sis.batch-size and queue-capacity must be positive");
+        }
+        workerCount = CohortRecomputeService.effectiveParallelism(configuredWorkers,
+                CohortRecomputeService.maximumPoolSize(dataSource));
+        workers = Executors.newFixedThreadPool(workerCount, namedThreads("sis-import-"));
+        coordinator = Executors.newSingleThreadExecutor(namedThreads("sis-import-reader-"));
+    }
+
+    @PreDestroy
+    void stopExecutors() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Queues an import of a file in the import directory.
+     */
+    public SisImportJob start(SisImportType type, String fileName) {
+        Path file = resolve(fileName);
+        SisImportJob job = new SisImportJob(type, fileName, workerCount, batchSize);
+        jobs.put(job.getId(), job);
+        coordinator.execute(() -> run(job, file));
+        return job;
+    }
+
+    public SisImportJob getJob(UUID jobId) {
+        SisImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Import job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * A file in the import directory; also used by {@link RosterSyncService}.
+     */
+    Path resolve(String fileName) {
+        Path base = Paths.get(directory).toAbsolutePath().normalize();
+        Path file = base.resolve(fileName).normalize();
+        if (!file.startsWith(base)) {
+            throw new IllegalArgumentException("Import file must be inside the import directory");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Import file not found: " + fileName);
+        }
+        return file;
+    }
+
+    private void run(SisImportJob job, Path file) {
+        job.start();
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<CompletableFuture<Void>> partitions = new ArrayList<>();
+
+        try (CsvRecordReader reader = new CsvRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            Columns columns = Columns.of(job.getType(), reader.next());
+
+            List<BlockingQueue<List<RawRecord>>> queues = new ArrayList<>();
+            List<List<RawRecord>> pending = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                BlockingQueue<List<RawRecord>> queue = new ArrayBlockingQueue<>(queueCapacity);
+                queues.add(queue);
+                pending.add(new ArrayList<>(batchSize));
+                partitions.add(CompletableFuture.runAsync(() -> consume(job, columns, queue, aborted), workers));
+            }
+
+            String[] record;
+            while ((record = reader.next()) != null) {
+                job.rowRead();
+                int partition = Math.floorMod(columns.get(record, "student_id").toLowerCase(Locale.ROOT).hashCode(),
+                        workerCount);
+                List<RawRecord> chunk = pending.get(partition);
+                chunk.add(new RawRecord(reader.getRecordLine(), record));
+                if (chunk.size() >= batchSize) {
+                    put(queues.get(partition), chunk, partitions);
+                    pending.set(partition, new ArrayList<>(batchSize));
+                }
+            }
+            for (int i = 0; i < workerCount; i++) {
+                if (!pending.get(i).isEmpty()) {
+                    put(queues.get(i), pending.get(i), partitions);
+                }
+                put(queues.get(i), END, partitions);
+            }
+
+            CompletableFuture.allOf(partitions.toArray(new CompletableFuture<?>[0])).join();
+
+            startRecomputes(job);
+            job.complete();
+            log.info("Imported {} {} rows ({} rejected) from {} at {} rows/s",
+                    job.getRowsImported(), job.getType(), job.getRowsRejected(), job.getFile(), job.getRowsPerSecond());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recomputeAfterFailure(job, partitions, aborted);
+            job.fail("Interrupted");
+        } catch (IOException | RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("SIS import of {} failed", job.getFile(), cause);
+            recomputeAfterFailure(job, partitions, aborted);
+            job.fail(cause.getMessage());
+        } finally {
+            aborted.set(true);
+        }
+    }
+
+    private void startRecomputes(SisImportJob job) {
+        if (job.getRowsImported() > 0) {
+            for (String semester : job.getSemesters()) {
+                job.recomputeStarted(cohortRecomputeService.start(semester).getId());
+            }
+        }
+    }
+
+    // Batches committed before the failure are already in the tables, so their scores are rebuilt too
+    private void recomputeAfterFailure(SisImportJob job, List<CompletableFuture<Void>> partitions,
+                                       AtomicBoolean aborted) {
+        aborted.set(true);
+        for (CompletableFuture<Void> partition : partitions) {
+            try {
+                partition.join();
+            } catch (CompletionException | CancellationException e) {
+                // Already reported through the import's own failure
+            }
+        }
+        try {
+            startRecomputes(job);
+        } catch (RuntimeException e) {
+            log.error("Could not start the recompute after the failed SIS import of {}", job.getFile(), e);
+        }
+    }
+
+    // Blocks while the worker's queue is full, giving up if any worker has failed
+    private static void put(BlockingQueue<List<RawRecord>> queue, List<RawRecord> chunk,
+                            List<CompletableFuture<Void>> partitions) throws InterruptedException {
+        while (!queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+            for (CompletableFuture<Void> partition : partitions) {
+                if (partition.isCompletedExceptionally()) {
+                    partition.join();
+                }
+            }
+        }
+    }
+
+    // Stops before the next chunk once the import has failed, leaving the rest of the queue unwritten
+    private void consume(SisImportJob job, Columns columns, BlockingQueue<List<RawRecord>> queue,
+                         AtomicBoolean aborted) {
+        try {
+            while (true) {
+                List<RawRecord> chunk = queue.poll(1, TimeUnit.SECONDS);
+                if (chunk == END || aborted.get()) {
+                    return;
+                }
+                if (chunk == null) {
+                    continue;
+                }
+
+                List<ParsedRow> rows = new ArrayList<>(chunk.size());
+                for (RawRecord raw : chunk) {
+                    try {
+                        rows.add(parse(job.getType(), columns, raw));
+                    } catch (IllegalArgumentException e) {
+                        job.reject(raw.line, e.getMessage());
+                    }
+                }
+                store(job, rows);
+            }
+        } catch (InterruptedException e) {
+            aborted.set(true);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            throw e;
+        }
+    }
+
+    private void store(SisImportJob job, List<ParsedRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<UUID> studentIds = new HashSet<>();
+        for (ParsedRow row : rows) {
+            studentIds.add(row.studentId);
+        }
+
+        Set<String> semesters = new HashSet<>();
+        Integer accepted = transactionTemplate.execute(status -> {
+            Set<UUID> existing = new HashSet<>(studentRepository.findExistingIds(studentIds));
+
+            // Keys must be unique within a batch; the last row of a key wins
+            Map<List<Object>, Object[]> byKey = new LinkedHashMap<>();
+            int count = 0;
+            for (ParsedRow row : rows) {
+                if (!existing.contains(row.studentId)) {
+                    job.reject(row.line, "Student not found: " + row.studentId);
+                    continue;
+                }
+                byKey.remove(row.key);
+                byKey.put(row.key, row.values);
+                semesters.add(row.semester);
+                count++;
+            }
+
+            List<Object[]> values = new ArrayList<>(byKey.values());
+            switch (job.getType()) {
+                case ACADEMIC_PERFORMANCE:
+                    riskInputBulkRepository.upsertAcademicPerformance(values);
+                    break;
+                case ATTENDANCE:
+                    riskInputBulkRepository.upsertAttendance(values);
+                    break;
+                case BEHAVIOR:
+                    riskInputBulkRepository.upsertBehavior(values);
+                    break;
+            }
+            return count;
+        });
+
+        // Counted once committed, so a rolled-back batch schedules no recompute
+        semesters.forEach(job::semesterImported);
+        job.rowsImported(accepted);
+    }
+
+    private ParsedRow parse(SisImportType type, Columns columns, RawRecord raw) {
+        String[] record = raw.fields;
+        UUID studentId = parseUuid(columns.get(record, "student_id"), "student_id");
+        String code = columns.get(record, "semester");
+        if (code.isEmpty()) {
+            throw new IllegalArgumentException("semester is required");
+        }
+        Semester semester = semesterService.getOrCreate(code);
+
+        switch (type) {
+            case ACADEMIC_PERFORMANCE: {
+                String course = columns.get(record, "course");
+                if (course.isEmpty() || course.length() > 50) {
+                    throw new IllegalArgumentException("course must be 1-50 characters");
+                }
+                return new ParsedRow(raw.line, studentId, semester.getCode(), 3, new Object[]{
+                        studentId, semester.getId(), course,
+                        parsePercentage(columns.get(record, "grade"), "grade"),
+                        parseCount(columns.get(record, "state_assessment_ela"), "state_assessment_ela", null),
+                        parseCount(columns.get(record, "state_assessment_math"), "state_assessment_math", null)});
+            }
+            case ATTENDANCE:
+                return new ParsedRow(raw.line, studentId, semester.getCode(), 2, new Object[]{
+                        studentId, semester.getId(),
+                        parsePercentage(columns.get(record, "attendance_rate"), "attendance_rate"),
+                        parseCount(columns.get(record, "absent_days"), "absent_days", null),
+                        parseCount(columns.get(record, "tardy_days"), "tardy_days", null)});
+            case BEHAVIOR:
+                return new ParsedRow(raw.line, studentId, semester.getCode(), 2, new Object[]{
+                        studentId, semester.getId(),
+                        parseCount(columns.get(record, "disciplinary_actions"), "disciplinary_actions", 0),
+                        parseCount(columns.get(record, "suspensions"), "suspensions", 0)});
+            default:
+                throw new IllegalStateException("Unsupported import type: " + type);
+        }
+    }
+
+    private static UUID parseUuid(String value, String column) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + " is not a UUID: '" + value + "'");
+        }
+    }
+
+    private static BigDecimal parsePercentage(String value, String column) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal number = new BigDecimal(value).setScale(2, RoundingMode.HALF_UP);
+            if (number.signum() < 0 || number.compareTo(HUNDRED) > 0) {
+                throw new IllegalArgumentException(column + " must be between 0 and 100");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: '" + value + "'");
+        }
+    }
+
+    private static Integer parseCount(String value, String column, Integer blank) {
+        if (value.isEmpty()) {
+            return blank;
+        }
+        try {
+            int number = Integer.parseInt(value);
+            if (number < 0) {
+                throw new IllegalArgumentException(column + " must not be negative");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a whole number: '" + value + "'");
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Positions of the required columns in the file's header row.
+     */
+    private static final class Columns {
+
+        private final Map<String, Integer> positions;
+
+        private Columns(Map<String, Integer> positions) {
+            this.positions = positions;
+        }
+
+        static Columns of(SisImportType type, String[] header) {
+            if (header == null) {
+                throw new IllegalArgumentException("Import file is empty");
+            }
+            Map<String, Integer> byName = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                // Tolerate a UTF-8 byte order mark before the first column name
+                String name = (i == 0 ? header[i].replace("\uFEFF", "") : header[i]).trim().toLowerCase(Locale.ROOT);
+                byName.putIfAbsent(name, i);
+            }
+
+            Map<String, Integer> positions = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String column : type.getColumns()) {
+                Integer position = byName.get(column);
+                if (position == null) {
+                    missing.add(column);
+                } else {
+                    positions.put(column, position);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("Missing columns for " + type + ": " + missing);
+            }
+            return new Columns(positions);
+        }
+
+        String get(String[] record, String column) {
+            int position = positions.get(column);
+            return position < record.length ? record[position].trim() : "";
+        }
+    }
+
+    private static final class RawRecord {
+
+        private final long line;
+        private final String[] fields;
+
+        private RawRecord(long line, String[] fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+    }
+
+    private static final class ParsedRow {
+
+        private final long line;
+        private final UUID studentId;
+        private final String semester;
+        private final List<Object> key;
+        private final Object[] values;
+
+        private ParsedRow(long line, UUID studentId, String semester, int keyCount, Object[] values) {
+            this.line = line;
+            this.studentId = studentId;
+            this.semester = semester;
+            this.key = Arrays.asList(Arrays.copyOf(values, keyCount));
+            this.values = values;
+        }
+    }
+}
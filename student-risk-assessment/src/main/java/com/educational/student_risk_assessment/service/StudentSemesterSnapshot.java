@@ -0,0 +1,87 @@
+package com.educational.student_risk_assessment.service;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A student's risk inputs for one semester in the primitive form consumed by
+ * {@link RiskScoringKernel}: decimals in hundredths, missing values as
+ * {@link RiskScoringKernel#ABSENT}.
+ */
+public class StudentSemesterSnapshot {
+
+    private final UUID studentId;
+    private final String studentName;
+    private final String studentGrade;
+    private final String semester;
+
+    private int performanceCount;
+    private int[] gradeHundredths = new int[4];
+    private int[] stateAssessmentEla = new int[4];
+    private int[] stateAssessmentMath = new int[4];
+
+    private boolean hasAttendance;
+    private int attendanceRateHundredths = RiskScoringKernel.ABSENT;
+    private int absentDays = RiskScoringKernel.ABSENT;
+    private int tardyDays = RiskScoringKernel.ABSENT;
+
+    private boolean hasBehavior;
+    private int disciplinaryActions = RiskScoringKernel.ABSENT;
+    private int suspensions = RiskScoringKernel.ABSENT;
+
+    public StudentSemesterSnapshot(UUID studentId, String studentName, String studentGrade, String semester) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.studentGrade = studentGrade;
+        this.semester = semester;
+    }
+
+    public void addPerformance(int gradeHundredths, int ela, int math) {
+        if (performanceCount == this.gradeHundredths.length) {
+            int capacity = performanceCount * 2;
+            this.gradeHundredths = Arrays.copyOf(this.gradeHundredths, capacity);
+            this.stateAssessmentEla = Arrays.copyOf(this.stateAssessmentEla, capacity);
+            this.stateAssessmentMath = Arrays.copyOf(this.stateAssessmentMath, capacity);
+        }
+        this.gradeHundredths[performanceCount] = gradeHundredths;
+        this.stateAssessmentEla[performanceCount] = ela;
+        this.stateAssessmentMath[performanceCount] = math;
+        performanceCount++;
+    }
+
+    public void setAttendance(int attendanceRateHundredths, int absentDays, int tardyDays) {
+        this.hasAttendance = true;
+        this.attendanceRateHundredths = attendanceRateHundredths;
+        this.absentDays = absentDays;
+        this.tardyDays = tardyDays;
+    }
+
+    public void setBehavior(int disciplinaryActions, int suspensions) {
+        this.hasBehavior = true;
+        this.disciplinaryActions = disciplinaryActions;
+        this.suspensions = suspensions;
+    }
+
+    public boolean hasInputs() {
+        return performanceCount > 0 || hasAttendance || hasBehavior;
+    }
+
+    public UUID getStudentId() { return studentId; }
+    public String getStudentName() { return studentName; }
+    public String getStudentGrade() { return studentGrade; }
+    public String getSemester() { return semester; }
+
+    public int getPerformanceCount() { return performanceCount; }
+    public int getGradeHundredths(int index) { return gradeHundredths[index]; }
+    public int getStateAssessmentEla(int index) { return stateAssessmentEla[index]; }
+    public int getStateAssessmentMath(int index) { return stateAssessmentMath[index]; }
+
+    public boolean hasAttendance() { return hasAttendance; }
+    public int getAttendanceRateHundredths() { return attendanceRateHundredths; }
+    public int getAbsentDays() { return absentDays; }
+    public int getTardyDays() { return tardyDays; }
+
+    public boolean hasBehavior() { return hasBehavior; }
+    public int getDisciplinaryActions() { return disciplinaryActions; }
+    public int getSuspensions() { return suspensions; }
+}
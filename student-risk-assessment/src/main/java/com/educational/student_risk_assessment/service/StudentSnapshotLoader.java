@@ -0,0 +1,92 @@
+package com.educational.student_risk_assessment.service;
+
+import com.educational.student_risk_assessment.entity.Semester;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.repository.StudentSemesterRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Loads students' semester risk inputs with a single query per call (per
+ * {@value #BATCH_SIZE} students for batch loads) instead of one query per
+ * input table.
+ */
+@Component
+public class StudentSnapshotLoader {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    public Optional<StudentSemesterSnapshot> load(UUID studentId, String semester) {
+        Map<UUID, StudentSemesterSnapshot> snapshots = assemble(
+                studentRepository.findSemesterRows(Collections.singletonList(studentId), semesterId(semester)), semester);
+
+        return Optional.ofNullable(snapshots.get(studentId));
+    }
+
+    public Map<UUID, StudentSemesterSnapshot> loadAll(Collection<UUID> studentIds, String semester) {
+        List<UUID> ids = new ArrayList<>(studentIds);
+        Short semesterId = semesterId(semester);
+        Map<UUID, StudentSemesterSnapshot> snapshots = new LinkedHashMap<>();
+
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            snapshots.putAll(assemble(studentRepository.findSemesterRows(batch, semesterId), semester));
+        }
+
+        return snapshots;
+    }
+
+    public Map<UUID, StudentSemesterSnapshot> loadSemester(String semester) {
+        Short semesterId = semesterId(semester);
+        if (semesterId == null) {
+            return new LinkedHashMap<>();
+        }
+        return assemble(studentRepository.findSemesterRowsWithData(semesterId), semester);
+    }
+
+    // An unknown semester has no risk inputs; a null id matches no input rows in the joins
+    private Short semesterId(String semester) {
+        return semesterService.find(semester).map(Semester::getId).orElse(null);
+    }
+
+    private Map<UUID, StudentSemesterSnapshot> assemble(List<StudentSemesterRow> rows, String semester) {
+        Map<UUID, StudentSemesterSnapshot> snapshots = new LinkedHashMap<>();
+        // A student with several attendance or behavior rows repeats each performance row
+        Set<UUID> seenPerformances = new HashSet<>();
+
+        for (StudentSemesterRow row : rows) {
+            StudentSemesterSnapshot snapshot = snapshots.computeIfAbsent(row.getStudentId(),
+                    id -> new StudentSemesterSnapshot(id, row.getStudentName(), row.getStudentGrade(), semester));
+
+            if (row.getPerformanceId() != null && seenPerformances.add(row.getPerformanceId())) {
+                snapshot.addPerformance(
+                        RiskScoringKernel.toHundredths(row.getGrade()),
+                        RiskScoringKernel.toCount(row.getStateAssessmentEla()),
+                        RiskScoringKernel.toCount(row.getStateAssessmentMath()));
+            }
+
+            if (row.getAttendanceId() != null && !snapshot.hasAttendance()) {
+                snapshot.setAttendance(
+                        RiskScoringKernel.toHundredths(row.getAttendanceRate()),
+                        RiskScoringKernel.toCount(row.getAbsentDays()),
+                        RiskScoringKernel.toCount(row.getTardyDays()));
+            }
+
+            if (row.getBehaviorId() != null && !snapshot.hasBehavior()) {
+                snapshot.setBehavior(
+                        RiskScoringKernel.toCount(row.getDisciplinaryActions()),
+                        RiskScoringKernel.toCount(row.getSuspensions()));
+            }
+        }
+
+        return snapshots;
+    }
+}
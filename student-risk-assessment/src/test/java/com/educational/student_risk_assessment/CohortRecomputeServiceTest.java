@@ -0,0 +1,77 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.dto.CohortRecomputeJob;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.service.CohortRecomputeService;
+import com.educational.student_risk_assessment.service.RiskScoreProjectionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CohortRecomputeServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private RiskScoreProjectionService riskScoreProjectionService;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private CohortRecomputeService cohortRecomputeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cohortRecomputeService, "configuredParallelism", 1);
+        ReflectionTestUtils.setField(cohortRecomputeService, "chunkSize", 1);
+        ReflectionTestUtils.invokeMethod(cohortRecomputeService, "startExecutors");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(cohortRecomputeService, "stopExecutors");
+    }
+
+    @Test
+    void start_ChunkFails_StopsSubmittingAndFailsJob() throws Exception {
+        when(studentRepository.findIdsOrderById(Limit.of(1))).thenReturn(List.of(UUID.randomUUID()));
+        when(studentRepository.findIdsAfterOrderById(any(UUID.class), eq(Limit.of(1))))
+                .thenAnswer(invocation -> List.of(UUID.randomUUID()));
+        when(riskScoreProjectionService.rescoreStudents(anyList(), eq("Fall2024")))
+                .thenThrow(new IllegalStateException("Database unavailable"));
+
+        CohortRecomputeJob job = cohortRecomputeService.start("Fall2024");
+        for (int attempt = 0; attempt < 100 && !job.isFinished(); attempt++) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(CohortRecomputeJob.Status.FAILED, job.getStatus());
+        assertEquals("Database unavailable", job.getError());
+        // The second chunk waits for the failed first one's permit and is never submitted
+        verify(riskScoreProjectionService, times(1)).rescoreStudents(anyList(), eq("Fall2024"));
+        verifyNoInteractions(cacheManager);
+    }
+}
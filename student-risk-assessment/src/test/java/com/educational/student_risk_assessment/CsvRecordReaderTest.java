@@ -0,0 +1,43 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.service.CsvRecordReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void next_ParsesQuotedFieldsAndTracksLines() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "a,b,c\r\n" +
+                "\"x, y\",\"say \"\"hi\"\"\",\n" +
+                "\n" +
+                "\"multi\nline\",2,3\n" +
+                "last,,"));
+
+        assertArrayEquals(new String[]{"a", "b", "c"}, reader.next());
+        assertEquals(1, reader.getRecordLine());
+
+        assertArrayEquals(new String[]{"x, y", "say \"hi\"", ""}, reader.next());
+        assertEquals(2, reader.getRecordLine());
+
+        assertArrayEquals(new String[]{"multi\nline", "2", "3"}, reader.next());
+        assertEquals(4, reader.getRecordLine());
+
+        assertArrayEquals(new String[]{"last", "", ""}, reader.next());
+        assertEquals(6, reader.getRecordLine());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_UnterminatedQuote_Throws() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,\"open\n"));
+
+        assertThrows(IOException.class, reader::next);
+    }
+}
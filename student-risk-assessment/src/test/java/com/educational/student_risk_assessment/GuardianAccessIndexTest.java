@@ -0,0 +1,106 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.entity.GuardianStudent;
+import com.educational.student_risk_assessment.event.GuardianLinkChangedEvent;
+import com.educational.student_risk_assessment.repository.GuardianStudentRepository;
+import com.educational.student_risk_assessment.security.GuardianAccessIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GuardianAccessIndexTest {
+
+    @Mock
+    private GuardianStudentRepository guardianStudentRepository;
+
+    @InjectMocks
+    private GuardianAccessIndex guardianAccessIndex;
+
+    private final UUID firstChild = UUID.randomUUID();
+    private final UUID secondChild = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(guardianStudentRepository.findAll()).thenReturn(List.of(
+                new GuardianStudent("parent_a", firstChild),
+                new GuardianStudent("parent_a", secondChild),
+                new GuardianStudent("parent_b", secondChild)));
+        guardianAccessIndex.reload();
+    }
+
+    @Test
+    void canAccess_LoadedLinks_OnlyLinkedStudents() {
+        assertTrue(guardianAccessIndex.canAccess("parent_a", firstChild));
+        assertTrue(guardianAccessIndex.canAccess("parent_a", secondChild));
+        assertTrue(guardianAccessIndex.canAccess("parent_b", secondChild));
+        assertFalse(guardianAccessIndex.canAccess("parent_b", firstChild));
+        assertFalse(guardianAccessIndex.canAccess("parent_c", firstChild));
+    }
+
+    @Test
+    void onGuardianLinkChanged_AppliesLinksAndUnlinks() {
+        UUID newChild = UUID.randomUUID();
+
+        guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_b", newChild, true));
+        guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_a", firstChild, false));
+        guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_c", newChild, true));
+
+        assertTrue(guardianAccessIndex.canAccess("parent_b", newChild));
+        assertTrue(guardianAccessIndex.canAccess("parent_c", newChild));
+        assertFalse(guardianAccessIndex.canAccess("parent_a", firstChild));
+        assertEquals(Set.of(secondChild), guardianAccessIndex.studentsOf("parent_a"));
+
+        guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_a", secondChild, false));
+        assertEquals(Set.of(), guardianAccessIndex.studentsOf("parent_a"));
+    }
+
+    @Test
+    void onGuardianLinkChanged_ManyStudents_KeepsEveryId() {
+        List<UUID> children = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UUID child = UUID.randomUUID();
+            children.add(child);
+            guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_many", child, true));
+        }
+        // Linking again is a no-op
+        guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_many", children.get(0), true));
+
+        assertEquals(50, guardianAccessIndex.studentsOf("parent_many").size());
+        for (UUID child : children) {
+            assertTrue(guardianAccessIndex.canAccess("parent_many", child));
+        }
+        assertFalse(guardianAccessIndex.canAccess("parent_many", firstChild));
+    }
+
+    @Test
+    void reload_ChangeCommittedDuringRead_IsNotLost() {
+        UUID newChild = UUID.randomUUID();
+        // The unlink and the new link commit after the reload read its (stale) rows
+        when(guardianStudentRepository.findAll()).thenAnswer(invocation -> {
+            List<GuardianStudent> stale = List.of(
+                    new GuardianStudent("parent_a", firstChild),
+                    new GuardianStudent("parent_b", secondChild));
+            guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_a", firstChild, false));
+            guardianAccessIndex.onGuardianLinkChanged(new GuardianLinkChangedEvent("parent_b", newChild, true));
+            return stale;
+        });
+
+        guardianAccessIndex.reload();
+
+        assertFalse(guardianAccessIndex.canAccess("parent_a", firstChild));
+        assertTrue(guardianAccessIndex.canAccess("parent_b", newChild));
+        assertTrue(guardianAccessIndex.canAccess("parent_b", secondChild));
+    }
+}
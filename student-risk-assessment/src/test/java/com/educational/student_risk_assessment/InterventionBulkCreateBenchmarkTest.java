@@ -0,0 +1,87 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.dto.CreateInterventionRequest;
+import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.service.InterventionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the single-create endpoint path against the bulk path.
+ * Run with: mvn test -Dtest=InterventionBulkCreateBenchmarkTest -Dbenchmark=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InterventionBulkCreateBenchmarkTest {
+
+    private static final int INTERVENTIONS = 2000;
+    private static final int STUDENTS = 200;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private InterventionService interventionService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    void singleCreateVersusBatch() {
+        List<CreateInterventionRequest> requests = requests();
+
+        // Warm up both paths before timing
+        interventionService.createInterventions(requests.subList(0, 100));
+        requests.subList(0, 100).forEach(interventionService::createIntervention);
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (CreateInterventionRequest request : requests) {
+                interventionService.createIntervention(request);
+            }
+            long singleMillis = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            int created = interventionService.createInterventions(requests).size();
+            long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(INTERVENTIONS, created);
+            System.out.printf("round %d: %d interventions, single-create %d ms, batch %d ms (%.1fx)%n",
+                    round, INTERVENTIONS, singleMillis, batchMillis, (double) singleMillis / Math.max(1, batchMillis));
+        }
+    }
+
+    private List<CreateInterventionRequest> requests() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setName("Benchmark Student " + i);
+            student.setGrade("9th");
+            students.add(student);
+        }
+        students = studentRepository.saveAll(students);
+
+        List<CreateInterventionRequest> requests = new ArrayList<>(INTERVENTIONS);
+        for (int i = 0; i < INTERVENTIONS; i++) {
+            CreateInterventionRequest request = new CreateInterventionRequest();
+            request.setStudentId(students.get(i % STUDENTS).getId());
+            request.setInterventionType("Benchmark Support");
+            request.setStartDate(LocalDate.now());
+            request.setTargetCompletionDate(LocalDate.now().plusMonths(3));
+            request.setStartScore(new BigDecimal("40"));
+            request.setGoalScore(new BigDecimal("80"));
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -2,8 +2,15 @@ package com.educational.student_risk_assessment;
 
 import com.educational.student_risk_assessment.dto.CreateInterventionRequest;
 import com.educational.student_risk_assessment.dto.InterventionProgressUpdate;
+import com.educational.student_risk_assessment.dto.InterventionSummary;
+import com.educational.student_risk_assessment.entity.Intervention;
 import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.repository.InterventionRepository;
 import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.service.GuardianService;
+import com.educational.student_risk_assessment.service.InterventionRollupService;
+import com.educational.student_risk_assessment.service.InterventionService;
+import com.educational.student_risk_assessment.service.SemesterService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
@@ -19,7 +26,19 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -40,6 +59,21 @@ class InterventionControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private InterventionRepository interventionRepository;
+
+    @Autowired
+    private InterventionService interventionService;
+
+    @Autowired
+    private InterventionRollupService interventionRollupService;
+
+    @Autowired
+    private GuardianService guardianService;
+
+    @Autowired
+    private SemesterService semesterService;
+
     private MockMvc mockMvc;
     private static Student testStudent;
     private static String interventionId;
@@ -119,17 +153,55 @@ class InterventionControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].student.id").value(testStudent.getId().toString()))
+                .andExpect(jsonPath("$[0].student.name").value("Integration Test Student"))
                 .andExpect(jsonPath("$[0].interventionType").value("Academic Support"));
     }
 
+    @Test
+    @Order(3)
+    @WithMockUser(roles = "TEACHER")
+    void getStudentInterventions_UnknownStudent_ReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/interventions/student/{studentId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(3)
+    @WithMockUser(roles = "TEACHER")
+    void getStudentInterventions_StudentWithoutInterventions_ReturnsEmptyList() throws Exception {
+        Student student = new Student();
+        student.setName("Student Without Interventions");
+        student.setGrade("9th");
+        student = studentRepository.save(student);
+
+        mockMvc.perform(get("/api/interventions/student/{studentId}", student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     @Order(4)
     @WithMockUser(roles = "PARENT", username = "parent_test")
     void getStudentInterventions_AsParent_ReturnsOnlyOwnChildrenData() throws Exception {
+        guardianService.linkStudent("parent_test", testStudent.getId());
+
         mockMvc.perform(get("/api/interventions/student/{studentId}", testStudent.getId()))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
+
+        guardianService.unlinkStudent("parent_test", testStudent.getId());
+
+        mockMvc.perform(get("/api/interventions/student/{studentId}", testStudent.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Order(4)
+    @WithMockUser(roles = "PARENT", username = "parent_other")
+    void getStudentInterventions_AsUnlinkedParent_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/interventions/student/{studentId}", testStudent.getId()))
+                .andExpect(status().isForbidden());
     }
 
     @Test
@@ -173,4 +245,352 @@ class InterventionControllerIntegrationTest {
                 .andDo(print())
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    @Order(8)
+    void getInterventionSummary_AfterReconcile_MatchesInterventions() {
+        saveIntervention(LocalDate.of(2019, 1, 1), "50", "60", "80", "ON_TRACK");
+        saveIntervention(LocalDate.of(2019, 6, 15), "50", "80", "80", "COMPLETED");
+        saveIntervention(LocalDate.of(2019, 12, 31), "75", "70", "45", "NOT_ON_TRACK");
+        saveIntervention(LocalDate.of(2018, 12, 31), "50", "50", "80", "ON_TRACK");
+        saveIntervention(LocalDate.of(2020, 1, 1), "50", "50", "80", "ON_TRACK");
+
+        // Saved directly through the repository, so only the reconcile sees them
+        assertEquals(0, interventionService.getInterventionSummary("2019").getTotalInterventions());
+        interventionRollupService.reconcile();
+
+        InterventionSummary summary = interventionService.getInterventionSummary("2019");
+
+        assertEquals(3, summary.getTotalInterventions());
+        assertEquals(1, summary.getOnTrackInterventions());
+        assertEquals(1, summary.getCompletedInterventions());
+        assertEquals(1, summary.getNotOnTrackInterventions());
+        // (33.33 + 100 + 100) / 3
+        assertEquals(new BigDecimal("77.78"), summary.getAverageProgressRate());
+        assertEquals(0, interventionRollupService.reconcile());
+    }
+
+    @Test
+    @Order(9)
+    @WithMockUser(roles = "TEACHER")
+    void getInterventionSummary_AfterCreateAndUpdate_ReflectsDeltas() throws Exception {
+        String year = String.valueOf(LocalDate.now().getYear());
+        interventionRollupService.reconcile();
+        InterventionSummary before = interventionService.getInterventionSummary(year);
+
+        CreateInterventionRequest request = new CreateInterventionRequest();
+        request.setStudentId(testStudent.getId());
+        request.setInterventionType("Rollup Support");
+        request.setStartDate(LocalDate.now());
+        request.setTargetCompletionDate(LocalDate.now().plusMonths(3));
+        request.setStartScore(new BigDecimal("40"));
+        request.setGoalScore(new BigDecimal("80"));
+
+        String response = mockMvc.perform(post("/api/interventions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String createdId = objectMapper.readTree(response).get("id").asText();
+
+        InterventionProgressUpdate update = new InterventionProgressUpdate();
+        update.setCurrentScore(new BigDecimal("80"));
+        update.setUpdatedOn(LocalDate.now());
+        update.setStatus("ON_TRACK");
+
+        mockMvc.perform(put("/api/interventions/{id}/progress", createdId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        InterventionSummary after = interventionService.getInterventionSummary(year);
+        assertEquals(before.getTotalInterventions() + 1, after.getTotalInterventions());
+        assertEquals(before.getCompletedInterventions() + 1, after.getCompletedInterventions());
+        assertEquals(before.getOnTrackInterventions(), after.getOnTrackInterventions());
+        assertEquals(0, interventionRollupService.reconcile());
+    }
+
+    @Test
+    @Order(10)
+    @WithMockUser(roles = "TEACHER")
+    void updateProgressBatch_MixedIds_ReturnsPerItemResults() throws Exception {
+        interventionRollupService.reconcile();
+        String missingId = UUID.randomUUID().toString();
+        String body = "{\"updates\":[" +
+                "{\"interventionId\":\"" + interventionId + "\",\"currentScore\":50}," +
+                "{\"interventionId\":\"" + missingId + "\",\"currentScore\":50}]}";
+
+        mockMvc.perform(put("/api/interventions/progress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].interventionId").value(interventionId))
+                .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$[0].currentScore").value(50))
+                .andExpect(jsonPath("$[1].interventionId").value(missingId))
+                .andExpect(jsonPath("$[1].outcome").value("NOT_FOUND"));
+
+        assertEquals(0, interventionRollupService.reconcile());
+    }
+
+    @Test
+    @Order(11)
+    @WithMockUser(roles = "TEACHER")
+    void updateProgressBatch_EmptyBatch_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(put("/api/interventions/progress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"updates\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(12)
+    @WithMockUser(roles = "TEACHER")
+    void createInterventions_Batch_CreatesAllWithTimeOrderedIds() throws Exception {
+        interventionRollupService.reconcile();
+        long before = interventionRepository.count();
+
+        String body = "{\"interventions\":[" + bulkItem(testStudent.getId(), "Bulk Reading") + "," +
+                bulkItem(testStudent.getId(), "Bulk Math") + "," +
+                bulkItem(testStudent.getId(), "Bulk Writing") + "]}";
+
+        String response = mockMvc.perform(post("/api/interventions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.interventionIds.length()").value(3))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(before + 3, interventionRepository.count());
+        JsonNode ids = objectMapper.readTree(response).get("interventionIds");
+        UUID previous = null;
+        for (JsonNode id : ids) {
+            UUID current = UUID.fromString(id.asText());
+            assertEquals(7, current.version());
+            if (previous != null) {
+                assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()) < 0);
+            }
+            previous = current;
+        }
+        assertEquals(0, interventionRollupService.reconcile());
+    }
+
+    @Test
+    @Order(13)
+    @WithMockUser(roles = "TEACHER")
+    void createInterventions_UnknownStudent_RejectsWholeBatch() throws Exception {
+        long before = interventionRepository.count();
+        String body = "{\"interventions\":[" + bulkItem(testStudent.getId(), "Bulk Reading") + "," +
+                bulkItem(UUID.randomUUID(), "Bulk Math") + "]}";
+
+        mockMvc.perform(post("/api/interventions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(before, interventionRepository.count());
+    }
+
+    @Test
+    @Order(14)
+    @WithMockUser(roles = "TEACHER")
+    void getProgressHistory_AfterUpdates_ReturnsScoresInOrder() throws Exception {
+        mockMvc.perform(get("/api/interventions/{id}/history", interventionId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].interventionId").value(interventionId))
+                .andExpect(jsonPath("$[0].score").value(75))
+                .andExpect(jsonPath("$[1].score").value(60))
+                .andExpect(jsonPath("$[2].score").value(50))
+                .andExpect(jsonPath("$[2].interventionType").value("Academic Support"));
+
+        mockMvc.perform(get("/api/interventions/{id}/history", interventionId)
+                        .param("to", LocalDate.now().minusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @Order(15)
+    @WithMockUser(roles = "TEACHER")
+    void getProgressHistoryByType_ReturnsEntriesOfThatType() throws Exception {
+        mockMvc.perform(get("/api/interventions/history")
+                        .param("type", "Bulk Math")
+                        .param("from", LocalDate.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].interventionType").value("Bulk Math"))
+                .andExpect(jsonPath("$[0].score").value(40));
+
+        mockMvc.perform(get("/api/interventions/history")
+                        .param("type", "Bulk Math")
+                        .param("from", LocalDate.now().plusDays(1).toString())
+                        .param("to", LocalDate.now().toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(16)
+    @WithMockUser(roles = "ADMIN")
+    void getEffectiveness_GroupsByTypeAndEvictsOnWrite() throws Exception {
+        LocalDate start = LocalDate.of(2017, 2, 1);
+        Intervention completed = new Intervention();
+        completed.setStudent(testStudent);
+        completed.setInterventionType("Tutoring");
+        completed.setStartDate(start);
+        completed.setTargetCompletionDate(start.plusMonths(3));
+        completed.setStartScore(new BigDecimal("50"));
+        completed.setCurrentScore(new BigDecimal("80"));
+        completed.setGoalScore(new BigDecimal("80"));
+        completed.setStatus("COMPLETED");
+        completed.setCompletedOn(start.plusDays(30));
+        interventionRepository.save(completed);
+        saveIntervention(start, "50", "65", "80", "ON_TRACK", "Tutoring");
+        saveIntervention(start, "50", "50", "80", "NOT_ON_TRACK", "Mentoring");
+
+        mockMvc.perform(get("/api/interventions/effectiveness").param("year", "2017"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].interventionType").value("Mentoring"))
+                .andExpect(jsonPath("$[0].completionRate").value(0))
+                .andExpect(jsonPath("$[0].averageDaysToGoal").doesNotExist())
+                .andExpect(jsonPath("$[0].averageProgressRate").value(0))
+                .andExpect(jsonPath("$[1].interventionType").value("Tutoring"))
+                .andExpect(jsonPath("$[1].totalInterventions").value(2))
+                .andExpect(jsonPath("$[1].completedInterventions").value(1))
+                .andExpect(jsonPath("$[1].completionRate").value(50))
+                .andExpect(jsonPath("$[1].averageDaysToGoal").value(30))
+                .andExpect(jsonPath("$[1].averageProgressRate").value(75));
+
+        // Creating through the service evicts the cached year
+        CreateInterventionRequest request = new CreateInterventionRequest();
+        request.setStudentId(testStudent.getId());
+        request.setInterventionType("Tutoring");
+        request.setStartDate(start);
+        request.setTargetCompletionDate(start.plusMonths(3));
+        request.setStartScore(new BigDecimal("50"));
+        request.setGoalScore(new BigDecimal("80"));
+        interventionService.createIntervention(request);
+
+        mockMvc.perform(get("/api/interventions/effectiveness").param("year", "2017"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].totalInterventions").value(3))
+                .andExpect(jsonPath("$[1].completionRate").value(33.33));
+    }
+
+    @Test
+    @Order(17)
+    void getInterventionSummary_ForSemesterCode_CountsStartDatesInItsRange() {
+        saveIntervention(LocalDate.of(2016, 7, 31), "50", "50", "80", "ON_TRACK");
+        saveIntervention(LocalDate.of(2016, 8, 1), "50", "65", "80", "ON_TRACK");
+        saveIntervention(LocalDate.of(2016, 12, 31), "50", "80", "80", "COMPLETED");
+
+        // Default Fall range: August 1 to December 31
+        semesterService.getOrCreate("2016-Fall");
+        InterventionSummary summary = interventionService.getInterventionSummary("2016-Fall");
+
+        assertEquals("2016-Fall", summary.getSemester());
+        assertEquals(2, summary.getTotalInterventions());
+        assertEquals(1, summary.getOnTrackInterventions());
+        assertEquals(1, summary.getCompletedInterventions());
+        assertEquals(new BigDecimal("75.00"), summary.getAverageProgressRate());
+
+        semesterService.save("2016-Fall", LocalDate.of(2016, 7, 1), LocalDate.of(2016, 12, 31));
+        assertEquals(3, interventionService.getInterventionSummary("2016-Fall").getTotalInterventions());
+
+        assertThrows(IllegalArgumentException.class, () -> interventionService.getInterventionSummary("2016-Winter"));
+    }
+
+    @Test
+    @Order(18)
+    @WithMockUser(roles = "ADMIN")
+    void saveSemester_AsAdmin_SetsDateRange() throws Exception {
+        mockMvc.perform(put("/api/semesters/{code}", "2015-Fall")
+                        .param("startDate", "2015-12-31")
+                        .param("endDate", "2015-08-01"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/api/semesters/{code}", "2015-Fall")
+                        .param("startDate", "2015-08-15")
+                        .param("endDate", "2015-12-20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("2015-Fall"))
+                .andExpect(jsonPath("$.startDate").value("2015-08-15"))
+                .andExpect(jsonPath("$.endDate").value("2015-12-20"));
+
+        mockMvc.perform(get("/api/semesters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value("2015-Fall"));
+    }
+
+    @Test
+    @Order(19)
+    @WithMockUser(roles = "TEACHER")
+    void saveSemester_AsTeacher_ReturnsForbidden() throws Exception {
+        mockMvc.perform(put("/api/semesters/{code}", "2015-Spring")
+                        .param("startDate", "2015-01-01")
+                        .param("endDate", "2015-05-31"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Order(20)
+    void createIntervention_ConcurrentFirstOfYear_AllCommitAndCount() throws Exception {
+        interventionRollupService.reconcile();
+        int writers = 4;
+        CyclicBarrier barrier = new CyclicBarrier(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<Intervention>> created = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                created.add(executor.submit(() -> {
+                    CreateInterventionRequest request = new CreateInterventionRequest();
+                    request.setStudentId(testStudent.getId());
+                    request.setInterventionType("First Of Year");
+                    request.setStartDate(LocalDate.of(2031, 2, 1));
+                    request.setTargetCompletionDate(LocalDate.of(2031, 5, 1));
+                    request.setStartScore(new BigDecimal("40"));
+                    request.setGoalScore(new BigDecimal("80"));
+                    barrier.await();
+                    return interventionService.createIntervention(request);
+                }));
+            }
+            for (Future<Intervention> intervention : created) {
+                assertNotNull(intervention.get(30, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(writers, interventionRollupService.findByYear(2031).orElseThrow().getTotalInterventions());
+        assertEquals(0, interventionRollupService.reconcile());
+    }
+
+    private String bulkItem(UUID studentId, String interventionType) {
+        return "{\"studentId\":\"" + studentId + "\",\"interventionType\":\"" + interventionType + "\"," +
+                "\"startDate\":\"" + LocalDate.now() + "\",\"targetCompletionDate\":\"" + LocalDate.now().plusMonths(3) + "\"," +
+                "\"startScore\":40,\"goalScore\":80}";
+    }
+
+    private void saveIntervention(LocalDate startDate, String startScore, String currentScore,
+                                  String goalScore, String status) {
+        saveIntervention(startDate, startScore, currentScore, goalScore, status, "Summary Support");
+    }
+
+    private void saveIntervention(LocalDate startDate, String startScore, String currentScore,
+                                  String goalScore, String status, String interventionType) {
+        Intervention intervention = new Intervention();
+        intervention.setStudent(testStudent);
+        intervention.setInterventionType(interventionType);
+        intervention.setStartDate(startDate);
+        intervention.setTargetCompletionDate(startDate.plusMonths(3));
+        intervention.setStartScore(new BigDecimal(startScore));
+        intervention.setCurrentScore(new BigDecimal(currentScore));
+        intervention.setGoalScore(new BigDecimal(goalScore));
+        intervention.setStatus(status);
+        interventionRepository.save(intervention);
+    }
 }
@@ -1,12 +1,21 @@
 package com.educational.student_risk_assessment;
 
 import com.educational.student_risk_assessment.dto.CreateInterventionRequest;
+import com.educational.student_risk_assessment.dto.InterventionDetails;
+import com.educational.student_risk_assessment.dto.InterventionProgressItem;
+import com.educational.student_risk_assessment.dto.InterventionProgressResult;
 import com.educational.student_risk_assessment.dto.InterventionProgressUpdate;
+import com.educational.student_risk_assessment.dto.InterventionSummary;
 import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.InterventionRollup;
 import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.repository.InterventionProgressRepository;
 import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.StudentInterventionRow;
 import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.service.InterventionRollupService;
 import com.educational.student_risk_assessment.service.InterventionService;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +32,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +44,12 @@ class InterventionServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private InterventionRollupService interventionRollupService;
+
+    @Mock
+    private InterventionProgressRepository interventionProgressRepository;
+
     @InjectMocks
     private InterventionService interventionService;
 
@@ -86,6 +102,7 @@ class InterventionServiceTest {
 
         verify(studentRepository).findById(studentId);
         verify(interventionRepository).save(any(Intervention.class));
+        verify(interventionRollupService).recordCreated(savedIntervention);
     }
 
     @Test
@@ -104,6 +121,44 @@ class InterventionServiceTest {
         verifyNoInteractions(interventionRepository);
     }
 
+    @Test
+    void createInterventions_KnownStudents_SavesBatchAndRecordsRollupOnce() {
+        CreateInterventionRequest first = createRequest(studentId, "Reading");
+        CreateInterventionRequest second = createRequest(studentId, "Math");
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+
+        when(studentRepository.findExistingIds(any())).thenReturn(List.of(studentId));
+        when(studentRepository.getReferenceById(studentId)).thenReturn(testStudent);
+        when(interventionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Intervention> interventions = invocation.getArgument(0);
+            interventions.get(0).setId(firstId);
+            interventions.get(1).setId(secondId);
+            return interventions;
+        });
+
+        List<UUID> ids = interventionService.createInterventions(List.of(first, second));
+
+        assertEquals(List.of(firstId, secondId), ids);
+        verify(studentRepository, times(1)).findExistingIds(any());
+        verify(studentRepository, never()).findById(any());
+        verify(interventionRollupService, times(1)).record(any());
+        verify(interventionProgressRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void createInterventions_UnknownStudent_RejectsWholeBatch() {
+        UUID unknownId = UUID.randomUUID();
+        when(studentRepository.findExistingIds(any())).thenReturn(List.of(studentId));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                interventionService.createInterventions(List.of(
+                        createRequest(studentId, "Reading"), createRequest(unknownId, "Math"))));
+
+        assertEquals("Students not found with IDs: [" + unknownId + "]", exception.getMessage());
+        verifyNoInteractions(interventionRepository, interventionRollupService);
+    }
+
     @Test
     void updateInterventionProgress_ValidUpdate_ReturnsUpdatedIntervention() {
         Intervention existingIntervention = new Intervention();
@@ -128,33 +183,97 @@ class InterventionServiceTest {
         assertNotNull(result);
         assertEquals(new BigDecimal("60"), result.getCurrentScore());
 
-        verify(interventionRepository, times(2)).findById(interventionId);
+        verify(interventionRepository).findById(interventionId);
         verify(interventionRepository).save(existingIntervention);
+        verify(interventionRollupService).recordUpdated(existingIntervention, null, new BigDecimal("75"));
     }
 
     @Test
-    void getStudentInterventions_ValidStudentId_ReturnsInterventions() {
-        Intervention intervention1 = new Intervention();
-        intervention1.setId(UUID.randomUUID());
-        intervention1.setInterventionType("Academic Support");
+    void updateInterventionProgressBatch_MixedIds_ReportsEachItem() {
+        Intervention existingIntervention = new Intervention();
+        existingIntervention.setId(interventionId);
+        existingIntervention.setStartDate(LocalDate.now().minusMonths(1));
+        existingIntervention.setTargetCompletionDate(LocalDate.now().plusMonths(2));
+        existingIntervention.setStartScore(new BigDecimal("40"));
+        existingIntervention.setCurrentScore(new BigDecimal("40"));
+        existingIntervention.setGoalScore(new BigDecimal("80"));
+        existingIntervention.setStatus("ON_TRACK");
+        UUID missingId = UUID.randomUUID();
+
+        when(interventionRepository.findAllById(any())).thenReturn(Arrays.asList(existingIntervention));
+
+        List<InterventionProgressResult> results = interventionService.updateInterventionProgressBatch(Arrays.asList(
+                new InterventionProgressItem(interventionId, new BigDecimal("85")),
+                new InterventionProgressItem(missingId, new BigDecimal("50"))));
+
+        assertEquals(2, results.size());
+        assertEquals(InterventionProgressResult.Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals("COMPLETED", results.get(0).getStatus());
+        assertEquals(missingId, results.get(1).getInterventionId());
+        assertEquals(InterventionProgressResult.Outcome.NOT_FOUND, results.get(1).getOutcome());
+
+        verify(interventionRepository).findAllById(any());
+        verify(interventionRepository, never()).findById(any());
+        verify(interventionRepository, never()).save(any());
+        verify(interventionRollupService).record(any(InterventionRollupService.Changes.class));
+    }
 
-        Intervention intervention2 = new Intervention();
-        intervention2.setId(UUID.randomUUID());
-        intervention2.setInterventionType("Behavioral Support");
+    @Test
+    void getInterventionSummary_ReadsYearRollup() {
+        InterventionRollup rollup = new InterventionRollup(2024);
+        rollup.setTotalInterventions(3);
+        rollup.setCompletedInterventions(1);
+        rollup.setOnTrackInterventions(2);
+        rollup.setProgressRateSum(new BigDecimal("233.3300"));
+
+        when(interventionRollupService.findByYear(2024)).thenReturn(Optional.of(rollup));
+
+        InterventionSummary summary = interventionService.getInterventionSummary("2024");
+
+        assertEquals(3, summary.getTotalInterventions());
+        assertEquals(1, summary.getCompletedInterventions());
+        assertEquals(2, summary.getOnTrackInterventions());
+        assertEquals(0, summary.getNotOnTrackInterventions());
+        assertEquals(new BigDecimal("77.78"), summary.getAverageProgressRate());
+        verifyNoInteractions(interventionRepository);
+    }
 
-        List<Intervention> interventions = Arrays.asList(intervention1, intervention2);
+    @Test
+    void getStudentInterventions_ValidStudentId_ReturnsInterventions() {
+        StudentInterventionRow row1 = interventionRow(UUID.randomUUID(), "Academic Support");
+        StudentInterventionRow row2 = interventionRow(UUID.randomUUID(), "Behavioral Support");
 
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
-        when(interventionRepository.findByStudentId(studentId)).thenReturn(interventions);
+        when(interventionRepository.findStudentInterventionRows(studentId)).thenReturn(Arrays.asList(row1, row2));
 
-        List<Intervention> result = interventionService.getStudentInterventions(studentId.toString());
+        List<InterventionDetails> result = interventionService.getStudentInterventions(studentId.toString());
 
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("Academic Support", result.get(0).getInterventionType());
         assertEquals("Behavioral Support", result.get(1).getInterventionType());
+        assertEquals(studentId, result.get(0).getStudent().getId());
+        assertEquals("Test Student", result.get(1).getStudent().getName());
+
+        verify(interventionRepository).findStudentInterventionRows(studentId);
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void getStudentInterventions_StudentWithoutInterventions_ReturnsEmptyList() {
+        StudentInterventionRow row = interventionRow(null, null);
+        when(interventionRepository.findStudentInterventionRows(studentId)).thenReturn(List.of(row));
+
+        assertTrue(interventionService.getStudentInterventions(studentId.toString()).isEmpty());
+    }
 
-        verify(interventionRepository).findByStudentId(studentId);
+    @Test
+    void getStudentInterventions_StudentNotFound_ThrowsEntityNotFound() {
+        when(interventionRepository.findStudentInterventionRows(studentId)).thenReturn(List.of());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () ->
+                interventionService.getStudentInterventions(studentId.toString()));
+
+        assertEquals("Student not found with ID: " + studentId, exception.getMessage());
     }
 
     @Test
@@ -206,4 +325,25 @@ class InterventionServiceTest {
         assertEquals("Intervention not found with ID: " + interventionId, exception.getMessage());
         verify(interventionRepository).findById(interventionId);
     }
+
+    private CreateInterventionRequest createRequest(UUID targetStudentId, String interventionType) {
+        CreateInterventionRequest request = new CreateInterventionRequest();
+        request.setStudentId(targetStudentId);
+        request.setInterventionType(interventionType);
+        request.setStartDate(LocalDate.now());
+        request.setTargetCompletionDate(LocalDate.now().plusMonths(3));
+        request.setStartScore(new BigDecimal("40"));
+        request.setGoalScore(new BigDecimal("80"));
+        return request;
+    }
+
+    private StudentInterventionRow interventionRow(UUID id, String interventionType) {
+        StudentInterventionRow row = mock(StudentInterventionRow.class);
+        lenient().when(row.getStudentId()).thenReturn(studentId);
+        lenient().when(row.getStudentName()).thenReturn("Test Student");
+        lenient().when(row.getStudentGrade()).thenReturn("10th");
+        lenient().when(row.getId()).thenReturn(id);
+        lenient().when(row.getInterventionType()).thenReturn(interventionType);
+        return row;
+    }
 }
@@ -0,0 +1,157 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.JobCheckpoint;
+import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.repository.InterventionBulkRepository;
+import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.JobCheckpointRepository;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.service.InterventionRollupService;
+import com.educational.student_risk_assessment.service.InterventionStatusRefreshService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ActiveProfiles("test")
+class InterventionStatusRefreshIntegrationTest {
+
+    @Autowired
+    private InterventionStatusRefreshService interventionStatusRefreshService;
+
+    @Autowired
+    private InterventionRollupService interventionRollupService;
+
+    @Autowired
+    private InterventionRepository interventionRepository;
+
+    @Autowired
+    private InterventionBulkRepository interventionBulkRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static Student testStudent;
+
+    @BeforeAll
+    static void setupClass(@Autowired StudentRepository studentRepository) {
+        testStudent = new Student();
+        testStudent.setName("Status Refresh Student");
+        testStudent.setGrade("11th");
+        testStudent = studentRepository.save(testStudent);
+    }
+
+    @Test
+    @Order(1)
+    void refresh_FlipsOnlyStaleStatuses() {
+        // Run days are offset so each test starts a fresh run
+        LocalDate today = LocalDate.now().plusDays(1);
+        UUID behind = saveIntervention(today, "75", "ON_TRACK");
+        UUID recovered = saveIntervention(today, "55", "NOT_ON_TRACK");
+        UUID completed = saveIntervention(today, "75", "COMPLETED");
+        // Seeded through the repository, so bring the rollup in line before the refresh applies deltas
+        interventionRollupService.reconcile();
+
+        JobCheckpoint checkpoint = interventionStatusRefreshService.refresh(today);
+
+        assertTrue(checkpoint.isCompleted());
+        assertEquals("NOT_ON_TRACK", status(behind));
+        assertEquals("ON_TRACK", status(recovered));
+        assertEquals("COMPLETED", status(completed));
+        assertEquals(0, interventionRollupService.reconcile());
+
+        // A completed run is not repeated on the same day
+        UUID untouched = saveIntervention(today, "75", "ON_TRACK");
+        assertEquals(checkpoint.getProcessed(), interventionStatusRefreshService.refresh(today).getProcessed());
+        assertEquals("ON_TRACK", status(untouched));
+    }
+
+    @Test
+    @Order(2)
+    void refresh_InterruptedRun_ResumesAfterCheckpoint() {
+        LocalDate today = LocalDate.now().plusDays(2);
+        UUID alreadyProcessed = saveIntervention(today, "75", "ON_TRACK");
+        UUID first = saveIntervention(today, "75", "ON_TRACK");
+        UUID second = saveIntervention(today, "75", "ON_TRACK");
+        interventionRollupService.reconcile();
+
+        JobCheckpoint interrupted = jobCheckpointRepository.findById("intervention-status-refresh")
+                .orElseThrow();
+        interrupted.setRunDate(today);
+        interrupted.setLastId(alreadyProcessed);
+        interrupted.setCompleted(false);
+        interrupted.setProcessed(0);
+        interrupted.setChanged(0);
+        interrupted.setUpdatedAt(LocalDateTime.now());
+        jobCheckpointRepository.save(interrupted);
+
+        JobCheckpoint checkpoint = interventionStatusRefreshService.refresh(today);
+
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(2, checkpoint.getProcessed());
+        assertEquals(2, checkpoint.getChanged());
+        assertEquals("ON_TRACK", status(alreadyProcessed));
+        assertEquals("NOT_ON_TRACK", status(first));
+        assertEquals("NOT_ON_TRACK", status(second));
+        assertEquals(0, interventionRollupService.reconcile());
+    }
+
+    @Test
+    @Order(3)
+    void updateStatusesIfUnchanged_AfterProgressUpdate_KeepsNewerValues() {
+        LocalDate today = LocalDate.now().plusDays(3);
+        UUID id = saveIntervention(today, "75", "ON_TRACK");
+
+        // A progress update commits after the refresh read the row at a score of 75
+        Intervention updated = interventionRepository.findById(id).orElseThrow();
+        updated.setCurrentScore(new BigDecimal("45"));
+        updated.setStatus("COMPLETED");
+        interventionRepository.save(updated);
+
+        int[] stale = transactionTemplate.execute(status -> interventionBulkRepository.updateStatusesIfUnchanged(
+                List.<Object[]>of(new Object[]{"NOT_ON_TRACK", id, "ON_TRACK", new BigDecimal("75")})));
+        assertArrayEquals(new int[]{0}, stale);
+
+        Intervention stored = interventionRepository.findById(id).orElseThrow();
+        assertEquals("COMPLETED", stored.getStatus());
+        assertEquals(0, new BigDecimal("45").compareTo(stored.getCurrentScore()));
+
+        int[] current = transactionTemplate.execute(status -> interventionBulkRepository.updateStatusesIfUnchanged(
+                List.<Object[]>of(new Object[]{"NOT_ON_TRACK", id, "COMPLETED", new BigDecimal("45.00")})));
+        assertArrayEquals(new int[]{1}, current);
+        assertEquals("NOT_ON_TRACK", status(id));
+    }
+
+    // 60 of 90 days elapsed; a 75 -> 45 goal needs a current score of about 59 to be on track
+    private UUID saveIntervention(LocalDate today, String currentScore, String status) {
+        Intervention intervention = new Intervention();
+        intervention.setStudent(testStudent);
+        intervention.setInterventionType("Refresh Support");
+        intervention.setStartDate(today.minusDays(60));
+        intervention.setTargetCompletionDate(today.plusDays(30));
+        intervention.setStartScore(new BigDecimal("75"));
+        intervention.setCurrentScore(new BigDecimal(currentScore));
+        intervention.setGoalScore(new BigDecimal("45"));
+        intervention.setStatus(status);
+        return interventionRepository.save(intervention).getId();
+    }
+
+    private String status(UUID interventionId) {
+        return interventionRepository.findById(interventionId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,70 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.security.JwtTokenProvider;
+import com.educational.student_risk_assessment.security.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-unit-tests-that-is-long-enough-for-hs512-signing-keys";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 3600000, 100);
+
+    @Test
+    void verify_ValidToken_ReturnsSubjectAndAuthorities() {
+        String token = token("teacher1", "ROLE_TEACHER", "ROLE_ADMIN");
+
+        VerifiedToken verified = tokenProvider.verify(token);
+
+        assertNotNull(verified);
+        assertEquals("teacher1", verified.getUsername());
+        assertEquals(List.of("ROLE_TEACHER", "ROLE_ADMIN"),
+                verified.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void verify_RepeatedToken_IsServedFromCache() {
+        String token = token("teacher1", "ROLE_TEACHER");
+
+        assertSame(tokenProvider.verify(token), tokenProvider.verify(token));
+    }
+
+    @Test
+    void verify_TamperedToken_ReturnsNull() {
+        String token = token("teacher1", "ROLE_TEACHER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(tokenProvider.verify(tampered));
+        assertNull(tokenProvider.verify("not-a-jwt"));
+    }
+
+    @Test
+    void verify_TokenFromOtherKey_ReturnsNull() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(SECRET.replace("test", "other"), 3600000, 100);
+
+        assertNull(tokenProvider.verify(otherProvider.generateToken(
+                new UsernamePasswordAuthenticationToken("teacher1", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))))));
+    }
+
+    @Test
+    void verify_ExpiredToken_ReturnsNull() {
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -1000, 100);
+        String token = expiringProvider.generateToken(
+                new UsernamePasswordAuthenticationToken("teacher1", null, List.of(new SimpleGrantedAuthority("ROLE_TEACHER"))));
+
+        assertNull(tokenProvider.verify(token));
+    }
+
+    private String token(String username, String... roles) {
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(roles).map(SimpleGrantedAuthority::new).toList();
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(username, null, authorities));
+    }
+}
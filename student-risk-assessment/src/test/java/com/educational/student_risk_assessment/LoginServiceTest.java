@@ -0,0 +1,68 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.exception.ServiceBusyException;
+import com.educational.student_risk_assessment.security.JwtTokenProvider;
+import com.educational.student_risk_assessment.service.LoginService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoginServiceTest {
+
+    private final AuthenticationManager authenticationManager = mock(AuthenticationManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private LoginService loginService;
+
+    @BeforeEach
+    void setUp() {
+        loginService = new LoginService();
+        ReflectionTestUtils.setField(loginService, "authenticationManager", authenticationManager);
+        ReflectionTestUtils.setField(loginService, "tokenProvider", new JwtTokenProvider(
+                "test-secret-key-for-unit-tests-that-is-long-enough-for-hs512-signing-keys", 3600000, 100));
+        ReflectionTestUtils.setField(loginService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(loginService, "configuredThreads", 1);
+        ReflectionTestUtils.setField(loginService, "queueCapacity", 1);
+        ReflectionTestUtils.invokeMethod(loginService, "start");
+
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new UsernamePasswordAuthenticationToken("teacher", null, List.of());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        ReflectionTestUtils.invokeMethod(loginService, "stop");
+    }
+
+    @Test
+    void login_PoolSaturated_RejectsImmediately() throws Exception {
+        CompletableFuture<String> running = loginService.login("teacher", "password");
+        CompletableFuture<String> queued = loginService.login("teacher", "password");
+
+        assertThrows(ServiceBusyException.class, () -> loginService.login("teacher", "password"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.login.queue.depth").gauge().value());
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("auth.login").tag("outcome", "success").timer().count());
+    }
+}
@@ -0,0 +1,103 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.config.ReplicaLagGuard;
+import com.educational.student_risk_assessment.config.ReplicaRoutingDataSource;
+import com.educational.student_risk_assessment.event.InterventionsChangedEvent;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private ReplicaLagGuard lagGuard;
+
+    @BeforeEach
+    void setUp() {
+        // Two separate in-memory databases stand in for the primary and the replica
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        lagGuard = new ReplicaLagGuard(Duration.ofMinutes(1));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, lagGuard));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void writeTransactionAndNonTransactionalWork_UsePrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOwnInterventionChange_UsesPrimary() {
+        authenticate("teacher1");
+        lagGuard.onInterventionsChanged(new InterventionsChangedEvent(Set.of(2024)));
+
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+        // Other users are unaffected
+        authenticate("teacher2");
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void interventionChangeWithoutUser_DoesNotPinReads() {
+        lagGuard.onInterventionsChanged(new InterventionsChangedEvent(Set.of(2024)));
+
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_role", String.class);
+    }
+
+    private static DataSource database(String role) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE database_role (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO database_role (name) VALUES (?)", role);
+        return dataSource;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_TEACHER"))));
+    }
+}
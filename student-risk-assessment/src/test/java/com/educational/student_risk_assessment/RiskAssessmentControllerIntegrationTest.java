@@ -2,21 +2,35 @@ package com.educational.student_risk_assessment;
 
 import com.educational.student_risk_assessment.entity.*;
 import com.educational.student_risk_assessment.repository.*;
+import com.educational.student_risk_assessment.service.SemesterService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +54,15 @@ class RiskAssessmentControllerIntegrationTest {
     @Autowired
     private BehaviorRepository behaviorRepository;
 
+    @Autowired
+    private StudentRiskScoreRepository studentRiskScoreRepository;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private MockMvc mockMvc;
     private Student highRiskStudent;
     private String semester = "Fall2024";
@@ -64,7 +87,7 @@ class RiskAssessmentControllerIntegrationTest {
 
         AcademicPerformance academic = new AcademicPerformance();
         academic.setStudent(highRiskStudent);
-        academic.setSemester(semester);
+        academic.setSemester(saveSemester(semester));
         academic.setGrade(new BigDecimal("65"));
         academic.setCourse("Math");
         academic.setStateAssessmentEla(450);
@@ -73,7 +96,7 @@ class RiskAssessmentControllerIntegrationTest {
 
         Attendance attendance = new Attendance();
         attendance.setStudent(highRiskStudent);
-        attendance.setSemester(semester);
+        attendance.setSemester(saveSemester(semester));
         attendance.setAttendanceRate(new BigDecimal("85"));
         attendance.setAbsentDays(15);
         attendance.setTardyDays(8);
@@ -82,7 +105,7 @@ class RiskAssessmentControllerIntegrationTest {
 
         Behavior behavior = new Behavior();
         behavior.setStudent(highRiskStudent);
-        behavior.setSemester(semester);
+        behavior.setSemester(saveSemester(semester));
         behavior.setDisciplinaryActions(5);
         behavior.setSuspensions(2);
         behaviorRepository.save(behavior);
@@ -106,6 +129,28 @@ class RiskAssessmentControllerIntegrationTest {
                 .andExpect(jsonPath("$.tardinessScore").value(10));
     }
 
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void getStudentRiskAssessment_AfterAttendanceUpdate_ReturnsFreshAssessment() throws Exception {
+        mockMvc.perform(get("/api/risk-assessment/students/{studentId}", highRiskStudent.getId())
+                        .param("semester", semester))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attendanceScore").value(30));
+
+        Attendance attendance = attendanceRepository.findByStudentIdAndSemesterId(highRiskStudent.getId(),
+                        semesterService.resolve(semester).getId())
+                .orElseThrow();
+        attendance.setAttendanceRate(new BigDecimal("97"));
+        attendance.setAbsentDays(1);
+        attendanceRepository.save(attendance);
+
+        mockMvc.perform(get("/api/risk-assessment/students/{studentId}", highRiskStudent.getId())
+                        .param("semester", semester))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attendanceScore").value(0))
+                .andExpect(jsonPath("$.totalRiskScore").value(70));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAtRiskStudents_WithFilters_ReturnsFilteredResults() throws Exception {
@@ -121,6 +166,276 @@ class RiskAssessmentControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[0].riskLevel").value("HIGH"));
     }
 
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void getAtRiskStudents_WithCursor_ReturnsNextPageInScoreOrder() throws Exception {
+        String pagingSemester = "Spring2025";
+        Student first = saveStudentWithAttendance("Paging Student A", "Paging", pagingSemester, new BigDecimal("80"), 15);
+        Student second = saveStudentWithAttendance("Paging Student B", "Paging", pagingSemester, new BigDecimal("85"), 2);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/risk-assessment/at-risk")
+                        .param("semester", pagingSemester)
+                        .param("grade", "Paging")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].studentId").value(first.getId().toString()))
+                .andExpect(jsonPath("$.content[0].riskScore").value(30))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/risk-assessment/at-risk")
+                        .param("semester", pagingSemester)
+                        .param("grade", "Paging")
+                        .param("size", "1")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].studentId").value(second.getId().toString()))
+                .andExpect(jsonPath("$.content[0].riskScore").value(20))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void getAtRiskStudents_WithoutMinimumRisk_IncludesUnscoredStudents() throws Exception {
+        String unscoredSemester = "Fall2027";
+        Student scored = saveStudentWithAttendance("Scored Student", "Pre-K", unscoredSemester, new BigDecimal("80"), 15);
+        Student unscored = studentRepository.save(new Student("Unscored Student", "Pre-K"));
+
+        mockMvc.perform(get("/api/risk-assessment/at-risk")
+                        .param("semester", unscoredSemester)
+                        .param("grade", "Pre-K"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].studentId").value(scored.getId().toString()))
+                .andExpect(jsonPath("$.content[1].studentId").value(unscored.getId().toString()))
+                .andExpect(jsonPath("$.content[1].riskScore").value(0))
+                .andExpect(jsonPath("$.content[1].riskLevel").value("LOW"));
+
+        mockMvc.perform(get("/api/risk-assessment/at-risk")
+                        .param("semester", unscoredSemester)
+                        .param("grade", "Pre-K")
+                        .param("minimumRisk", "MEDIUM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void getAtRiskStudents_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/risk-assessment/at-risk")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void getTopRiskStudents_WithGrade_ReturnsHighestScoresFirst() throws Exception {
+        String topSemester = "Spring2026";
+        saveStudentWithAttendance("Top Student Low", "9th", topSemester, new BigDecimal("95"), 15);
+        Student highest = saveStudentWithAttendance("Top Student High", "9th", topSemester, new BigDecimal("80"), 15);
+        saveStudentWithAttendance("Top Student Other Grade", "10th", topSemester, new BigDecimal("80"), 15);
+
+        mockMvc.perform(get("/api/risk-assessment/top")
+                        .param("semester", topSemester)
+                        .param("grade", "9th")
+                        .param("k", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].studentId").value(highest.getId().toString()))
+                .andExpect(jsonPath("$[0].riskScore").value(30));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void getTopRiskStudents_FewerScoredThanK_FillsWithUnscoredStudents() throws Exception {
+        String topSemester = "Spring2028";
+        Student scored = saveStudentWithAttendance("Top Scored", "TopPad", topSemester, new BigDecimal("80"), 15);
+        Student unscored = studentRepository.save(new Student("Top Unscored", "TopPad"));
+
+        mockMvc.perform(get("/api/risk-assessment/top")
+                        .param("semester", topSemester)
+                        .param("grade", "TopPad")
+                        .param("k", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].studentId").value(scored.getId().toString()))
+                .andExpect(jsonPath("$[1].studentId").value(unscored.getId().toString()))
+                .andExpect(jsonPath("$[1].riskScore").value(0))
+                .andExpect(jsonPath("$[1].riskLevel").value("LOW"));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void exportAtRiskStudents_Ndjson_StreamsOneObjectPerLine() throws Exception {
+        String exportSemester = "Fall2025";
+        Student first = saveStudentWithAttendance("Export Student A", "Export", exportSemester, new BigDecimal("80"), 15);
+        Student second = saveStudentWithAttendance("Export Student B", "Export", exportSemester, new BigDecimal("85"), 2);
+
+        MvcResult started = mockMvc.perform(get("/api/risk-assessment/at-risk/export")
+                        .param("semester", exportSemester)
+                        .param("grade", "Export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(first.getId().toString(), JsonPath.read(lines[0], "$.studentId"));
+        assertEquals(30, (Integer) JsonPath.read(lines[0], "$.riskScore"));
+        assertEquals(second.getId().toString(), JsonPath.read(lines[1], "$.studentId"));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void exportAtRiskStudents_GzipCsv_QuotesFields() throws Exception {
+        String exportSemester = "Winter2025";
+        Student student = saveStudentWithAttendance("Doe, Jane", "CsvExport", exportSemester, new BigDecimal("80"), 15);
+
+        MvcResult started = mockMvc.perform(get("/api/risk-assessment/at-risk/export")
+                        .param("semester", exportSemester)
+                        .param("grade", "CsvExport")
+                        .param("format", "CSV")
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals("studentId,studentName,grade,riskScore,riskLevel,semester\n" +
+                    student.getId() + ",\"Doe, Jane\",CsvExport,30,LOW," + exportSemester + "\n", csv);
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void exportAtRiskStudents_WithoutMinimumRisk_IncludesUnscoredStudents() throws Exception {
+        String exportSemester = "Fall2028";
+        Student scored = saveStudentWithAttendance("Scored Export", "Unscored", exportSemester,
+                new BigDecimal("80"), 15);
+        Student unscored = studentRepository.save(new Student("Unscored Export", "Unscored"));
+
+        MvcResult started = mockMvc.perform(get("/api/risk-assessment/at-risk/export")
+                        .param("semester", exportSemester)
+                        .param("grade", "Unscored")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals("studentId,studentName,grade,riskScore,riskLevel,semester\n" +
+                scored.getId() + ",Scored Export,Unscored,30,LOW," + exportSemester + "\n" +
+                unscored.getId() + ",Unscored Export,Unscored,0,LOW," + exportSemester + "\n",
+                result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void recomputeRiskScores_RestoresMaterializedScores() throws Exception {
+        String recomputeSemester = "Summer2025";
+        Student student = saveStudentWithAttendance("Recompute Student", "11th", recomputeSemester,
+                new BigDecimal("80"), 15);
+        studentRiskScoreRepository.deleteAll(studentRiskScoreRepository.findBySemester(recomputeSemester));
+
+        MvcResult accepted = mockMvc.perform(post("/api/risk-assessment/scores/recompute")
+                        .param("semester", recomputeSemester))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.semester").value(recomputeSemester))
+                .andReturn();
+
+        String jobId = JsonPath.read(accepted.getResponse().getContentAsString(), "$.id");
+        String status = "QUEUED";
+        for (int attempt = 0; attempt < 100 && (status.equals("QUEUED") || status.equals("RUNNING")); attempt++) {
+            Thread.sleep(50);
+            MvcResult progress = mockMvc.perform(get("/api/risk-assessment/scores/recompute/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            status = JsonPath.read(progress.getResponse().getContentAsString(), "$.status");
+        }
+
+        assertEquals("COMPLETED", status);
+        StudentRiskScore score = studentRiskScoreRepository
+                .findByStudentIdAndSemester(student.getId(), recomputeSemester)
+                .orElseThrow();
+        assertEquals(30, score.getTotalScore());
+        assertEquals(1, studentRiskScoreRepository.findBySemester(recomputeSemester).size());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void reloadRules_StartsRecomputePerSemester() throws Exception {
+        saveStudentWithAttendance("Rules Student", "11th", "Winter2025", new BigDecimal("80"), 15);
+
+        MvcResult current = mockMvc.perform(get("/api/risk-assessment/rules"))
+                .andExpect(status().isOk())
+                .andReturn();
+        Object rules = JsonPath.read(current.getResponse().getContentAsString(), "$.rules");
+
+        MvcResult reloaded = mockMvc.perform(put("/api/risk-assessment/rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rules)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<String> jobIds = JsonPath.read(reloaded.getResponse().getContentAsString(), "$.recomputeJobIds");
+        assertEquals(studentRiskScoreRepository.findDistinctSemesters().size(), jobIds.size());
+        for (String jobId : jobIds) {
+            String status = "QUEUED";
+            for (int attempt = 0; attempt < 100 && (status.equals("QUEUED") || status.equals("RUNNING")); attempt++) {
+                Thread.sleep(50);
+                MvcResult progress = mockMvc.perform(get("/api/risk-assessment/scores/recompute/{jobId}", jobId))
+                        .andExpect(status().isOk())
+                        .andReturn();
+                status = JsonPath.read(progress.getResponse().getContentAsString(), "$.status");
+            }
+            assertEquals("COMPLETED", status);
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void recomputeRiskScores_AsTeacher_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post("/api/risk-assessment/scores/recompute")
+                        .param("semester", semester))
+                .andExpect(status().isForbidden());
+    }
+
+    private Semester saveSemester(String code) {
+        return semesterService.find(code)
+                .orElseGet(() -> semesterService.save(code, LocalDate.of(2024, 8, 1), LocalDate.of(2024, 12, 31)));
+    }
+
+    private Student saveStudentWithAttendance(String name, String grade, String studentSemester,
+                                              BigDecimal attendanceRate, int absentDays) {
+        Student student = new Student(name, grade);
+        student = studentRepository.save(student);
+
+        Attendance attendance = new Attendance();
+        attendance.setStudent(student);
+        attendance.setSemester(saveSemester(studentSemester));
+        attendance.setAttendanceRate(attendanceRate);
+        attendance.setAbsentDays(absentDays);
+        attendance.setTardyDays(0);
+        attendanceRepository.save(attendance);
+
+        return student;
+    }
+
     @Test
     @WithMockUser(roles = "STUDENT")
     void getStudentRiskAssessment_AsStudent_ReturnsForbidden() throws Exception {
@@ -1,23 +1,27 @@
 package com.educational.student_risk_assessment;
 
+import com.educational.student_risk_assessment.config.RiskRuleProperties;
 import com.educational.student_risk_assessment.dto.AtRiskStudent;
 import com.educational.student_risk_assessment.dto.RiskLevel;
 import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
-import com.educational.student_risk_assessment.entity.AcademicPerformance;
-import com.educational.student_risk_assessment.entity.Attendance;
-import com.educational.student_risk_assessment.entity.Behavior;
 import com.educational.student_risk_assessment.entity.Student;
-import com.educational.student_risk_assessment.repository.AcademicPerformanceRepository;
-import com.educational.student_risk_assessment.repository.AttendanceRepository;
-import com.educational.student_risk_assessment.repository.BehaviorRepository;
+import com.educational.student_risk_assessment.entity.StudentRiskScore;
 import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.repository.StudentRiskScoreRepository;
 import com.educational.student_risk_assessment.service.RiskAssessmentService;
+import com.educational.student_risk_assessment.service.RiskRuleEngine;
+import com.educational.student_risk_assessment.service.RiskScoreCalculator;
+import com.educational.student_risk_assessment.service.RiskScoringKernel;
+import com.educational.student_risk_assessment.service.StudentSemesterSnapshot;
+import com.educational.student_risk_assessment.service.StudentSnapshotLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -26,6 +30,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,13 +40,14 @@ class RiskAssessmentServiceTest {
     private StudentRepository studentRepository;
 
     @Mock
-    private AcademicPerformanceRepository academicPerformanceRepository;
+    private StudentSnapshotLoader studentSnapshotLoader;
 
     @Mock
-    private AttendanceRepository attendanceRepository;
+    private StudentRiskScoreRepository studentRiskScoreRepository;
 
-    @Mock
-    private BehaviorRepository behaviorRepository;
+    @Spy
+    private RiskScoreCalculator riskScoreCalculator =
+            new RiskScoreCalculator(new RiskRuleEngine(new RiskRuleProperties()));
 
     @InjectMocks
     private RiskAssessmentService riskAssessmentService;
@@ -62,35 +68,12 @@ class RiskAssessmentServiceTest {
 
     @Test
     void calculateRiskScore_HighRiskStudent_ReturnsCorrectScore() {
+        StudentSemesterSnapshot snapshot = new StudentSemesterSnapshot(studentId, "John Doe", "9th", semester);
+        snapshot.addPerformance(6500, 450, RiskScoringKernel.ABSENT);
+        snapshot.setAttendance(8500, 15, 8);
+        snapshot.setBehavior(5, 2);
 
-        AcademicPerformance academicPerformance = new AcademicPerformance();
-        academicPerformance.setStudent(testStudent);
-        academicPerformance.setSemester(semester);
-        academicPerformance.setGrade(new BigDecimal("65"));
-        academicPerformance.setStateAssessmentEla(450);
-
-
-        Attendance attendance = new Attendance();
-        attendance.setStudent(testStudent);
-        attendance.setSemester(semester);
-        attendance.setAttendanceRate(new BigDecimal("85"));
-        attendance.setAbsentDays(15);
-        attendance.setTardyDays(8);
-
-
-        Behavior behavior = new Behavior();
-        behavior.setStudent(testStudent);
-        behavior.setSemester(semester);
-        behavior.setDisciplinaryActions(5);
-        behavior.setSuspensions(2);
-
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
-        when(academicPerformanceRepository.findByStudentIdAndSemester(studentId, semester))
-                .thenReturn(Arrays.asList(academicPerformance));
-        when(attendanceRepository.findByStudentIdAndSemester(studentId, semester))
-                .thenReturn(Optional.of(attendance));
-        when(behaviorRepository.findByStudentIdAndSemester(studentId, semester))
-                .thenReturn(Optional.of(behavior));
+        when(studentSnapshotLoader.load(studentId, semester)).thenReturn(Optional.of(snapshot));
 
         StudentRiskAssessment result = riskAssessmentService.calculateRiskScore(studentId.toString(), semester);
 
@@ -107,41 +90,18 @@ class RiskAssessmentServiceTest {
         assertEquals(new BigDecimal("100"), result.getTotalRiskScore());
         assertEquals("HIGH", result.getRiskLevel());
 
-        verify(studentRepository).findById(studentId);
-        verify(academicPerformanceRepository).findByStudentIdAndSemester(studentId, semester);
-        verify(attendanceRepository, times(2)).findByStudentIdAndSemester(studentId, semester);
-        verify(behaviorRepository).findByStudentIdAndSemester(studentId, semester);
+        verify(studentSnapshotLoader).load(studentId, semester);
+        verifyNoInteractions(studentRepository);
     }
 
     @Test
     void calculateRiskScore_LowRiskStudent_ReturnsCorrectScore() {
+        StudentSemesterSnapshot snapshot = new StudentSemesterSnapshot(studentId, "John Doe", "9th", semester);
+        snapshot.addPerformance(8500, 550, RiskScoringKernel.ABSENT);
+        snapshot.setAttendance(9500, 3, 2);
+        snapshot.setBehavior(1, 0);
 
-        AcademicPerformance academicPerformance = new AcademicPerformance();
-        academicPerformance.setStudent(testStudent);
-        academicPerformance.setSemester(semester);
-        academicPerformance.setGrade(new BigDecimal("85"));
-        academicPerformance.setStateAssessmentEla(550);
-
-        Attendance attendance = new Attendance();
-        attendance.setStudent(testStudent);
-        attendance.setSemester(semester);
-        attendance.setAttendanceRate(new BigDecimal("95"));
-        attendance.setAbsentDays(3);
-        attendance.setTardyDays(2);
-
-        Behavior behavior = new Behavior();
-        behavior.setStudent(testStudent);
-        behavior.setSemester(semester);
-        behavior.setDisciplinaryActions(1);
-        behavior.setSuspensions(0);
-
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
-        when(academicPerformanceRepository.findByStudentIdAndSemester(studentId, semester))
-                .thenReturn(Arrays.asList(academicPerformance));
-        when(attendanceRepository.findByStudentIdAndSemester(studentId, semester))
-                .thenReturn(Optional.of(attendance));
-        when(behaviorRepository.findByStudentIdAndSemester(studentId, semester))
-                .thenReturn(Optional.of(behavior));
+        when(studentSnapshotLoader.load(studentId, semester)).thenReturn(Optional.of(snapshot));
 
 
         StudentRiskAssessment result = riskAssessmentService.calculateRiskScore(studentId.toString(), semester);
@@ -152,15 +112,23 @@ class RiskAssessmentServiceTest {
         assertEquals(BigDecimal.ZERO, result.getTardinessScore());
         assertEquals(BigDecimal.ZERO, result.getTotalRiskScore());
         assertEquals("LOW", result.getRiskLevel());
-        verify(studentRepository).findById(studentId);
-        verify(academicPerformanceRepository).findByStudentIdAndSemester(studentId, semester);
-        verify(attendanceRepository, times(2)).findByStudentIdAndSemester(studentId, semester);
-        verify(behaviorRepository).findByStudentIdAndSemester(studentId, semester);
+        verify(studentSnapshotLoader).load(studentId, semester);
+    }
+
+    @Test
+    void calculateRiskScore_StudentWithoutData_ReturnsZeroScore() {
+        when(studentSnapshotLoader.load(studentId, semester))
+                .thenReturn(Optional.of(new StudentSemesterSnapshot(studentId, "John Doe", "9th", semester)));
+
+        StudentRiskAssessment result = riskAssessmentService.calculateRiskScore(studentId.toString(), semester);
+
+        assertEquals(BigDecimal.ZERO, result.getTotalRiskScore());
+        assertEquals("LOW", result.getRiskLevel());
     }
 
     @Test
     void calculateRiskScore_StudentNotFound_ThrowsException() {
-        when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+        when(studentSnapshotLoader.load(studentId, semester)).thenReturn(Optional.empty());
 
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -168,8 +136,26 @@ class RiskAssessmentServiceTest {
         });
 
         assertEquals("Student not found with ID: " + studentId, exception.getMessage());
-        verify(studentRepository).findById(studentId);
-        verifyNoInteractions(academicPerformanceRepository, attendanceRepository, behaviorRepository);
+        verify(studentSnapshotLoader).load(studentId, semester);
+    }
+
+    @Test
+    void calculateRiskScore_MaterializedScore_SkipsRawData() {
+        StudentRiskScore score = riskScore(testStudent, 40, 30, 0, 10, "HIGH");
+
+        when(studentRiskScoreRepository.findWithStudentByStudentIdAndSemester(studentId, semester))
+                .thenReturn(Optional.of(score));
+
+        StudentRiskAssessment result = riskAssessmentService.calculateRiskScore(studentId.toString(), semester);
+
+        assertEquals("John Doe", result.getStudentName());
+        assertEquals(new BigDecimal("40"), result.getAcademicScore());
+        assertEquals(new BigDecimal("30"), result.getAttendanceScore());
+        assertEquals(BigDecimal.ZERO, result.getBehaviorScore());
+        assertEquals(new BigDecimal("10"), result.getTardinessScore());
+        assertEquals(new BigDecimal("80"), result.getTotalRiskScore());
+        assertEquals("HIGH", result.getRiskLevel());
+        verifyNoInteractions(studentSnapshotLoader, studentRepository);
     }
 
     @Test
@@ -185,13 +171,9 @@ class RiskAssessmentServiceTest {
         mediumRiskStudent.setGrade("11th");
 
         when(studentRepository.findAll()).thenReturn(Arrays.asList(highRiskStudent, mediumRiskStudent));
-
-        when(studentRepository.findById(highRiskStudent.getId())).thenReturn(Optional.of(highRiskStudent));
-        when(studentRepository.findById(mediumRiskStudent.getId())).thenReturn(Optional.of(mediumRiskStudent));
-
-        mockHighRiskData(highRiskStudent);
-
-        mockMediumRiskData(mediumRiskStudent);
+        when(studentRiskScoreRepository.findBySemester(semester)).thenReturn(Arrays.asList(
+                riskScore(highRiskStudent, 40, 30, 20, 10, "HIGH"),
+                riskScore(mediumRiskStudent, 25, 20, 0, 0, "MEDIUM")));
 
 
         List<AtRiskStudent> results = riskAssessmentService.identifyAtRiskStudents(semester, RiskLevel.MEDIUM);
@@ -205,6 +187,7 @@ class RiskAssessmentServiceTest {
                 .orElse(null);
         assertNotNull(highRisk);
         assertEquals("HIGH", highRisk.getRiskLevel());
+        assertEquals(new BigDecimal("100"), highRisk.getRiskScore());
 
         AtRiskStudent mediumRisk = results.stream()
                 .filter(s -> s.getStudentName().equals("Medium Risk Student"))
@@ -212,6 +195,9 @@ class RiskAssessmentServiceTest {
                 .orElse(null);
         assertNotNull(mediumRisk);
         assertEquals("MEDIUM", mediumRisk.getRiskLevel());
+
+        verify(studentRepository, never()).findById(any());
+        verifyNoInteractions(studentSnapshotLoader);
     }
 
     @Test
@@ -224,13 +210,14 @@ class RiskAssessmentServiceTest {
         lowRiskStudent.setId(UUID.randomUUID());
         lowRiskStudent.setName("Low Risk Student");
 
-        when(studentRepository.findAll()).thenReturn(Arrays.asList(highRiskStudent, lowRiskStudent));
+        Student noDataStudent = new Student();
+        noDataStudent.setId(UUID.randomUUID());
+        noDataStudent.setName("No Data Student");
 
-        when(studentRepository.findById(highRiskStudent.getId())).thenReturn(Optional.of(highRiskStudent));
-        when(studentRepository.findById(lowRiskStudent.getId())).thenReturn(Optional.of(lowRiskStudent));
-
-        mockHighRiskData(highRiskStudent);
-        mockLowRiskData(lowRiskStudent);
+        when(studentRepository.findAll()).thenReturn(Arrays.asList(highRiskStudent, lowRiskStudent, noDataStudent));
+        when(studentRiskScoreRepository.findBySemester(semester)).thenReturn(Arrays.asList(
+                riskScore(highRiskStudent, 40, 30, 20, 10, "HIGH"),
+                riskScore(lowRiskStudent, 0, 0, 0, 0, "LOW")));
 
         List<AtRiskStudent> results = riskAssessmentService.identifyAtRiskStudents(semester, RiskLevel.HIGH);
 
@@ -239,75 +226,32 @@ class RiskAssessmentServiceTest {
         assertEquals("HIGH", results.get(0).getRiskLevel());
     }
 
+    @Test
+    void findTopRiskStudents_PushesLimitAndGradeIntoQuery() {
+        StudentRiskScore score = riskScore(testStudent, 40, 30, 0, 10, "HIGH");
 
-    private void mockHighRiskData(Student student) {
-        AcademicPerformance academic = new AcademicPerformance();
-        academic.setGrade(new BigDecimal("65"));
-        academic.setStateAssessmentEla(450);
-
-        Attendance attendance = new Attendance();
-        attendance.setAttendanceRate(new BigDecimal("85"));
-        attendance.setAbsentDays(15);
-        attendance.setTardyDays(8);
-
-        Behavior behavior = new Behavior();
-        behavior.setDisciplinaryActions(5);
-        behavior.setSuspensions(2);
-
-        when(academicPerformanceRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Arrays.asList(academic));
-
-
-        when(attendanceRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Optional.of(attendance));
+        when(studentRiskScoreRepository.findAtRiskFirstPage(semester, 0, "9th", Limit.of(1)))
+                .thenReturn(Arrays.asList(score));
 
-        when(behaviorRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Optional.of(behavior));
-    }
+        List<AtRiskStudent> results = riskAssessmentService.findTopRiskStudents(semester, "9th", 1);
 
-    private void mockMediumRiskData(Student student) {
-        AcademicPerformance academic = new AcademicPerformance();
-        academic.setGrade(new BigDecimal("68"));
-        academic.setStateAssessmentEla(520);
-
-        Attendance attendance = new Attendance();
-        attendance.setAttendanceRate(new BigDecimal("88"));
-        attendance.setAbsentDays(8);
-        attendance.setTardyDays(3);
-
-        Behavior behavior = new Behavior();
-        behavior.setDisciplinaryActions(1);
-        behavior.setSuspensions(0);
-
-        when(academicPerformanceRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Arrays.asList(academic));
-        when(attendanceRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Optional.of(attendance));
-        when(behaviorRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Optional.of(behavior));
+        assertEquals(1, results.size());
+        assertEquals(studentId, results.get(0).getStudentId());
+        assertEquals(new BigDecimal("80"), results.get(0).getRiskScore());
+        verify(studentRiskScoreRepository).findAtRiskFirstPage(semester, 0, "9th", Limit.of(1));
+        verifyNoInteractions(studentRepository);
     }
 
-    private void mockLowRiskData(Student student) {
-        AcademicPerformance academic = new AcademicPerformance();
-        academic.setGrade(new BigDecimal("85"));
-        academic.setStateAssessmentEla(550);
-
-        Attendance attendance = new Attendance();
-        attendance.setAttendanceRate(new BigDecimal("95"));
-        attendance.setAbsentDays(3);
-        attendance.setTardyDays(2);
-
-        Behavior behavior = new Behavior();
-        behavior.setDisciplinaryActions(1);
-        behavior.setSuspensions(0);
-
-        when(academicPerformanceRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Arrays.asList(academic));
-
-        when(attendanceRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Optional.of(attendance));
 
-        when(behaviorRepository.findByStudentIdAndSemester(student.getId(), semester))
-                .thenReturn(Optional.of(behavior));
+    private StudentRiskScore riskScore(Student student, int academic, int attendance,
+                                       int behavior, int tardiness, String riskLevel) {
+        StudentRiskScore score = new StudentRiskScore(student, semester);
+        score.setAcademicScore(academic);
+        score.setAttendanceScore(attendance);
+        score.setBehaviorScore(behavior);
+        score.setTardinessScore(tardiness);
+        score.setTotalScore(academic + attendance + behavior + tardiness);
+        score.setRiskLevel(riskLevel);
+        return score;
     }
 }
@@ -0,0 +1,125 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.config.RiskRuleProperties;
+import com.educational.student_risk_assessment.entity.*;
+import com.educational.student_risk_assessment.repository.*;
+import com.educational.student_risk_assessment.service.RiskRuleEngine;
+import com.educational.student_risk_assessment.service.RiskScoreCalculator;
+import com.educational.student_risk_assessment.service.RiskScoreProjectionService;
+import com.educational.student_risk_assessment.service.RiskScoringKernel;
+import com.educational.student_risk_assessment.service.StudentSemesterSnapshot;
+import com.educational.student_risk_assessment.service.StudentSnapshotLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskScoreProjectionServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentRiskScoreRepository studentRiskScoreRepository;
+
+    @Mock
+    private StudentSnapshotLoader studentSnapshotLoader;
+
+    @Spy
+    private RiskScoreCalculator riskScoreCalculator =
+            new RiskScoreCalculator(new RiskRuleEngine(new RiskRuleProperties()));
+
+    @InjectMocks
+    private RiskScoreProjectionService riskScoreProjectionService;
+
+    private Student student;
+    private String semester;
+    private StudentSemesterSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        semester = "Fall2024";
+        student = new Student();
+        student.setId(UUID.randomUUID());
+        student.setName("Medium Risk Student");
+
+        snapshot = new StudentSemesterSnapshot(student.getId(), student.getName(), "10th", semester);
+        snapshot.addPerformance(6800, 520, RiskScoringKernel.ABSENT);
+        snapshot.setAttendance(8800, 8, 6);
+        snapshot.setBehavior(1, 1);
+    }
+
+    @Test
+    void refresh_NewScore_StoresComponentScoresAndLevel() {
+        when(studentSnapshotLoader.load(student.getId(), semester)).thenReturn(Optional.of(snapshot));
+        when(studentRiskScoreRepository.findByStudentIdAndSemester(student.getId(), semester))
+                .thenReturn(Optional.empty());
+        when(studentRepository.getReferenceById(student.getId())).thenReturn(student);
+        when(studentRiskScoreRepository.save(any(StudentRiskScore.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        StudentRiskScore score = riskScoreProjectionService.refresh(student.getId(), semester);
+
+        assertEquals(25, score.getAcademicScore());
+        assertEquals(20, score.getAttendanceScore());
+        assertEquals(5, score.getBehaviorScore());
+        assertEquals(10, score.getTardinessScore());
+        assertEquals(60, score.getTotalScore());
+        assertEquals("MEDIUM", score.getRiskLevel());
+        assertEquals(semester, score.getSemester());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildSemester_MatchesPerStudentRefresh() {
+        StudentRiskScore existing = new StudentRiskScore(student, semester);
+
+        when(studentSnapshotLoader.loadSemester(semester))
+                .thenReturn(Collections.singletonMap(student.getId(), snapshot));
+        when(studentRiskScoreRepository.findBySemester(semester)).thenReturn(Collections.singletonList(existing));
+
+        int rescored = riskScoreProjectionService.rebuildSemester(semester);
+
+        ArgumentCaptor<List<StudentRiskScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(studentRiskScoreRepository).saveAll(captor.capture());
+
+        assertEquals(1, rescored);
+        StudentRiskScore rebuilt = captor.getValue().get(0);
+        assertSame(existing, rebuilt);
+        assertEquals(60, rebuilt.getTotalScore());
+        assertEquals("MEDIUM", rebuilt.getRiskLevel());
+        verify(studentSnapshotLoader, never()).load(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildSemester_StudentWithoutInputs_ResetsScore() {
+        StudentRiskScore stale = new StudentRiskScore(student, semester);
+        stale.setTotalScore(60);
+        stale.setRiskLevel("MEDIUM");
+
+        when(studentSnapshotLoader.loadSemester(semester)).thenReturn(Collections.emptyMap());
+        when(studentRiskScoreRepository.findBySemester(semester)).thenReturn(Collections.singletonList(stale));
+
+        riskScoreProjectionService.rebuildSemester(semester);
+
+        ArgumentCaptor<List<StudentRiskScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(studentRiskScoreRepository).saveAll(captor.capture());
+
+        assertEquals(0, captor.getValue().get(0).getTotalScore());
+        assertEquals("LOW", captor.getValue().get(0).getRiskLevel());
+    }
+}
@@ -0,0 +1,224 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.config.RiskRuleProperties;
+import com.educational.student_risk_assessment.dto.StudentRiskAssessment;
+import com.educational.student_risk_assessment.entity.AcademicPerformance;
+import com.educational.student_risk_assessment.entity.Attendance;
+import com.educational.student_risk_assessment.entity.Behavior;
+import com.educational.student_risk_assessment.service.RiskRuleEngine;
+import com.educational.student_risk_assessment.service.RiskScoreCalculator;
+import com.educational.student_risk_assessment.service.RiskScoringKernel;
+import com.educational.student_risk_assessment.service.StudentSemesterSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskScoringKernelTest {
+
+    private final RiskRuleEngine ruleEngine = new RiskRuleEngine(new RiskRuleProperties());
+    private final RiskScoreCalculator calculator = new RiskScoreCalculator(ruleEngine);
+
+    private static final List<BigDecimal> DECIMALS = new ArrayList<>();
+    private static final List<Integer> COUNTS = Arrays.asList(null, -1, 0, 1, 2, 3, 5, 6, 10, 11, 499, 500, 501);
+
+    static {
+        DECIMALS.add(null);
+        for (int hundredths = 0; hundredths <= 10000; hundredths += 7) {
+            DECIMALS.add(BigDecimal.valueOf(hundredths, 2));
+        }
+        DECIMALS.addAll(Arrays.asList(
+                new BigDecimal("69.99"), new BigDecimal("70"), new BigDecimal("70.00"), new BigDecimal("70.001"),
+                new BigDecimal("69.999"), new BigDecimal("89.99"), new BigDecimal("90"), new BigDecimal("90.0"),
+                new BigDecimal("89.995"), new BigDecimal("-0.01")));
+    }
+
+    @Test
+    void scoreAcademic_MatchesBigDecimalRules() {
+        for (BigDecimal grade : DECIMALS) {
+            for (Integer score : COUNTS) {
+                AcademicPerformance performance = new AcademicPerformance();
+                performance.setGrade(grade);
+                performance.setStateAssessmentEla(score);
+                performance.setStateAssessmentMath(score);
+
+                List<AcademicPerformance> performances = Arrays.asList(performance, performance);
+
+                assertEquals(referenceAcademic(performances), assess(performances, null, null).getAcademicScore(),
+                        "grade=" + grade + " score=" + score);
+            }
+        }
+    }
+
+    @Test
+    void scoreAttendanceAndTardiness_MatchBigDecimalRules() {
+        for (BigDecimal rate : DECIMALS) {
+            for (Integer days : COUNTS) {
+                Attendance attendance = new Attendance();
+                attendance.setAttendanceRate(rate);
+                attendance.setAbsentDays(days);
+                attendance.setTardyDays(days);
+
+                assertEquals(referenceAttendance(attendance), assess(null, attendance, null).getAttendanceScore(),
+                        "rate=" + rate + " days=" + days);
+                assertEquals(referenceTardiness(attendance), assess(null, attendance, null).getTardinessScore(),
+                        "days=" + days);
+            }
+        }
+    }
+
+    @Test
+    void scoreBehavior_MatchesBigDecimalRules() {
+        for (Integer actions : COUNTS) {
+            for (Integer suspensions : COUNTS) {
+                Behavior behavior = new Behavior();
+                behavior.setDisciplinaryActions(actions);
+                behavior.setSuspensions(suspensions);
+
+                assertEquals(referenceBehavior(behavior), assess(null, null, behavior).getBehaviorScore(),
+                        "actions=" + actions + " suspensions=" + suspensions);
+            }
+        }
+    }
+
+    @Test
+    void determineRiskLevel_MatchesBigDecimalRules() {
+        for (int total = 0; total <= 100; total++) {
+            BigDecimal score = BigDecimal.valueOf(total);
+            assertEquals(referenceLevel(score), calculator.determineRiskLevel(score));
+        }
+    }
+
+    @Test
+    void toScore_ReturnsScaleZeroValues() {
+        assertSame(RiskScoringKernel.toScore(40), RiskScoringKernel.toScore(40));
+        assertEquals(new BigDecimal("40"), RiskScoringKernel.toScore(40));
+        assertEquals(BigDecimal.ZERO, RiskScoringKernel.toScore(0));
+        assertEquals(new BigDecimal("1000"), RiskScoringKernel.toScore(1000));
+    }
+
+    @Test
+    void reload_NewRules_AppliedToSubsequentScoring() {
+        Attendance attendance = new Attendance();
+        attendance.setAttendanceRate(new BigDecimal("92.50"));
+        attendance.setAbsentDays(4);
+
+        assertEquals(BigDecimal.ZERO, assess(null, attendance, null).getAttendanceScore());
+
+        RiskRuleProperties stricter = new RiskRuleProperties();
+        stricter.getAttendance().setRateBelow(new BigDecimal("95.5"));
+        stricter.getAttendance().setAbsentDaysAbove(3);
+        long version = ruleEngine.reload(stricter);
+
+        assertEquals(2, version);
+        assertEquals(new BigDecimal("30"), assess(null, attendance, null).getAttendanceScore());
+    }
+
+    @Test
+    void reload_InvalidRules_KeepsActiveRules() {
+        RiskRuleProperties invalid = new RiskRuleProperties();
+        invalid.getAcademic().setGradeBelow(new BigDecimal("69.995"));
+
+        assertThrows(IllegalArgumentException.class, () -> ruleEngine.reload(invalid));
+
+        RiskRuleProperties inverted = new RiskRuleProperties();
+        inverted.getLevels().setHighFrom(30);
+
+        assertThrows(IllegalArgumentException.class, () -> ruleEngine.reload(inverted));
+        assertEquals(1, ruleEngine.currentVersion());
+        assertEquals("HIGH", calculator.determineRiskLevel(new BigDecimal("70")));
+    }
+
+    private StudentRiskAssessment assess(List<AcademicPerformance> performances,
+                                         Attendance attendance, Behavior behavior) {
+        StudentSemesterSnapshot snapshot = new StudentSemesterSnapshot(null, null, null, "Fall2024");
+        if (performances != null) {
+            for (AcademicPerformance performance : performances) {
+                snapshot.addPerformance(
+                        RiskScoringKernel.toHundredths(performance.getGrade()),
+                        RiskScoringKernel.toCount(performance.getStateAssessmentEla()),
+                        RiskScoringKernel.toCount(performance.getStateAssessmentMath()));
+            }
+        }
+        if (attendance != null) {
+            snapshot.setAttendance(
+                    RiskScoringKernel.toHundredths(attendance.getAttendanceRate()),
+                    RiskScoringKernel.toCount(attendance.getAbsentDays()),
+                    RiskScoringKernel.toCount(attendance.getTardyDays()));
+        }
+        if (behavior != null) {
+            snapshot.setBehavior(
+                    RiskScoringKernel.toCount(behavior.getDisciplinaryActions()),
+                    RiskScoringKernel.toCount(behavior.getSuspensions()));
+        }
+        return calculator.assess(snapshot);
+    }
+
+
+    // Reference implementation: the original BigDecimal rules
+
+    private BigDecimal referenceAcademic(List<AcademicPerformance> performances) {
+        BigDecimal score = BigDecimal.ZERO;
+        for (AcademicPerformance performance : performances) {
+            if (performance.getGrade() != null &&
+                    performance.getGrade().compareTo(new BigDecimal("70")) < 0) {
+                score = score.add(new BigDecimal("25"));
+            }
+            if (performance.getStateAssessmentEla() != null &&
+                    performance.getStateAssessmentEla() < 500) {
+                score = score.add(new BigDecimal("15"));
+            }
+            if (performance.getStateAssessmentMath() != null &&
+                    performance.getStateAssessmentMath() < 500) {
+                score = score.add(new BigDecimal("15"));
+            }
+        }
+        return score.min(new BigDecimal("40"));
+    }
+
+    private BigDecimal referenceAttendance(Attendance attendance) {
+        BigDecimal score = BigDecimal.ZERO;
+        if (attendance.getAttendanceRate() != null &&
+                attendance.getAttendanceRate().compareTo(new BigDecimal("90")) < 0) {
+            score = score.add(new BigDecimal("20"));
+        }
+        if (attendance.getAbsentDays() != null && attendance.getAbsentDays() > 10) {
+            score = score.add(new BigDecimal("10"));
+        }
+        return score.min(new BigDecimal("30"));
+    }
+
+    private BigDecimal referenceBehavior(Behavior behavior) {
+        BigDecimal score = BigDecimal.ZERO;
+        if (behavior.getDisciplinaryActions() != null &&
+                behavior.getDisciplinaryActions() > 2) {
+            score = score.add(new BigDecimal("15"));
+        }
+        if (behavior.getSuspensions() != null && behavior.getSuspensions() > 0) {
+            score = score.add(new BigDecimal("5"));
+        }
+        return score.min(new BigDecimal("20"));
+    }
+
+    private BigDecimal referenceTardiness(Attendance attendance) {
+        BigDecimal score = BigDecimal.ZERO;
+        if (attendance.getTardyDays() != null && attendance.getTardyDays() > 5) {
+            score = score.add(new BigDecimal("10"));
+        }
+        return score.min(new BigDecimal("10"));
+    }
+
+    private String referenceLevel(BigDecimal totalScore) {
+        if (totalScore.compareTo(new BigDecimal("70")) >= 0) {
+            return "HIGH";
+        } else if (totalScore.compareTo(new BigDecimal("40")) >= 0) {
+            return "MEDIUM";
+        } else {
+            return "LOW";
+        }
+    }
+}
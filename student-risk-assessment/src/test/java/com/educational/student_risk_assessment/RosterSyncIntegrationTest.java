@@ -0,0 +1,230 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.entity.Attendance;
+import com.educational.student_risk_assessment.entity.Intervention;
+import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.repository.AttendanceRepository;
+import com.educational.student_risk_assessment.repository.InterventionRepository;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.service.SemesterService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class RosterSyncIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private InterventionRepository interventionRepository;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        Files.createDirectories(Paths.get("target/sis-imports"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void syncRoster_WritesOnlyChangedStudents() throws Exception {
+        writeFile("roster-1.csv",
+                "sis_id,name,grade\n" +
+                "a001,Ann Roster,9th\n" +
+                "A002,Bob Roster,10th\n" +
+                "A003,Cal Roster,11th\n" +
+                "A005,Eve Roster,12th\n");
+
+        String job = awaitSync("roster-1.csv");
+        assertEquals("COMPLETED", JsonPath.read(job, "$.status"));
+        assertEquals(4, ((Number) JsonPath.read(job, "$.inserted")).intValue());
+
+        Map<String, Student> before = rosterStudents();
+        assertEquals(List.of("A001", "A002", "A003", "A005"), List.copyOf(before.keySet()));
+        Student withdrawn = before.get("A003");
+
+        Attendance attendance = new Attendance();
+        attendance.setStudent(withdrawn);
+        attendance.setSemester(semesterService.getOrCreate("2022-Fall"));
+        attendance.setAttendanceRate(new BigDecimal("80"));
+        attendanceRepository.save(attendance);
+
+        Intervention intervention = new Intervention();
+        intervention.setStudent(withdrawn);
+        intervention.setInterventionType("Tutoring");
+        intervention.setStartDate(LocalDate.of(2022, 9, 1));
+        intervention.setStatus("ON_TRACK");
+        interventionRepository.save(intervention);
+
+        writeFile("roster-2.csv",
+                "grade,sis_id,name\n" +
+                "9th,A001,Ann Roster\n" +
+                "11th,A002,Bob Roster\n" +
+                "9th,A004,Dan Roster\n" +
+                "12th,A005,Eve Roster\n" +
+                "9th,A006,Fay Roster\n" +
+                "9th,A007,\n");
+
+        job = awaitSync("roster-2.csv");
+        assertEquals("COMPLETED", JsonPath.read(job, "$.status"));
+        assertEquals(6, ((Number) JsonPath.read(job, "$.rowsRead")).intValue());
+        assertEquals(2, ((Number) JsonPath.read(job, "$.inserted")).intValue());
+        assertEquals(1, ((Number) JsonPath.read(job, "$.updated")).intValue());
+        assertEquals(1, ((Number) JsonPath.read(job, "$.withdrawn")).intValue());
+        assertEquals(2, ((Number) JsonPath.read(job, "$.unchanged")).intValue());
+        assertEquals(List.of("line 7: name must be 1-100 characters"), JsonPath.read(job, "$.rejectedRows"));
+
+        Map<String, Student> after = activeRosterStudents();
+        assertEquals(List.of("A001", "A002", "A004", "A005", "A006"), List.copyOf(after.keySet()));
+        assertEquals("11th", after.get("A002").getGrade());
+        assertEquals(before.get("A002").getId(), after.get("A002").getId());
+        assertEquals(before.get("A002").getCreatedAt(), after.get("A002").getCreatedAt());
+        assertEquals(before.get("A001").getContentHash(), after.get("A001").getContentHash());
+        assertNotEquals(before.get("A002").getContentHash(), after.get("A002").getContentHash());
+
+        // The withdrawn student is kept with their history but no longer listed as at risk
+        assertNotNull(studentRepository.findById(withdrawn.getId()).orElseThrow().getWithdrawnAt());
+        assertTrue(attendanceRepository.existsById(attendance.getId()));
+        assertTrue(interventionRepository.existsById(intervention.getId()));
+        MvcResult atRisk = mockMvc.perform(get("/api/risk-assessment/at-risk")
+                        .param("semester", "2022-Fall")
+                        .param("grade", "11th")
+                        .param("size", "100"))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<String> listed = JsonPath.read(atRisk.getResponse().getContentAsString(), "$.content[*].studentId");
+        assertFalse(listed.contains(withdrawn.getId().toString()));
+
+        // An unsorted roster stops the merge before it can delete anyone
+        writeFile("roster-unsorted.csv",
+                "sis_id,name,grade\n" +
+                "A002,Bob Roster,11th\n" +
+                "A001,Ann Roster,9th\n");
+
+        job = awaitSync("roster-unsorted.csv");
+        assertEquals("FAILED", JsonPath.read(job, "$.status"));
+        assertEquals("line 3: roster must be sorted by sis_id without duplicates, but A001 follows A002",
+                JsonPath.read(job, "$.error"));
+        assertEquals(0, ((Number) JsonPath.read(job, "$.withdrawn")).intValue());
+        assertEquals(5, activeRosterStudents().size());
+
+        writeFile("roster-empty.csv", "sis_id,name,grade\n");
+        job = awaitSync("roster-empty.csv");
+        assertEquals("FAILED", JsonPath.read(job, "$.status"));
+        assertEquals(5, activeRosterStudents().size());
+
+        // Withdrawing four students exceeds the test limit of two, so nobody is withdrawn
+        writeFile("roster-partial.csv",
+                "sis_id,name,grade\n" +
+                "A001,Ann Roster,9th\n");
+        job = awaitSync("roster-partial.csv");
+        assertEquals("FAILED", JsonPath.read(job, "$.status"));
+        assertEquals("Roster sync would withdraw more than 2 students; no students were withdrawn. "
+                + "Check the roster file or raise imports.roster.max-deletes", JsonPath.read(job, "$.error"));
+        assertEquals(0, ((Number) JsonPath.read(job, "$.withdrawn")).intValue());
+        assertEquals(5, activeRosterStudents().size());
+
+        // A withdrawn student back on the roster is active again under the same id
+        writeFile("roster-3.csv",
+                "sis_id,name,grade\n" +
+                "A001,Ann Roster,9th\n" +
+                "A002,Bob Roster,11th\n" +
+                "A003,Cal Roster,11th\n" +
+                "A004,Dan Roster,9th\n" +
+                "A005,Eve Roster,12th\n" +
+                "A006,Fay Roster,9th\n");
+        job = awaitSync("roster-3.csv");
+        assertEquals("COMPLETED", JsonPath.read(job, "$.status"));
+        assertEquals(0, ((Number) JsonPath.read(job, "$.inserted")).intValue());
+        assertEquals(1, ((Number) JsonPath.read(job, "$.updated")).intValue());
+        assertEquals(withdrawn.getId(), activeRosterStudents().get("A003").getId());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void syncRoster_AsTeacher_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post("/api/imports/roster")
+                        .param("file", "roster-1.csv"))
+                .andExpect(status().isForbidden());
+    }
+
+    private Map<String, Student> rosterStudents() {
+        return studentRepository.findAll().stream()
+                .filter(student -> student.getSisId() != null)
+                .collect(Collectors.toMap(Student::getSisId, Function.identity(),
+                        (a, b) -> a, TreeMap::new));
+    }
+
+    private Map<String, Student> activeRosterStudents() {
+        return studentRepository.findAll().stream()
+                .filter(student -> student.getSisId() != null && student.getWithdrawnAt() == null)
+                .collect(Collectors.toMap(Student::getSisId, Function.identity(),
+                        (a, b) -> a, TreeMap::new));
+    }
+
+    private void writeFile(String name, String content) throws Exception {
+        Files.writeString(Paths.get("target/sis-imports", name), content);
+    }
+
+    private String awaitSync(String file) throws Exception {
+        MvcResult accepted = mockMvc.perform(post("/api/imports/roster")
+                        .param("file", file))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        String jobId = JsonPath.read(accepted.getResponse().getContentAsString(), "$.id");
+        String job = accepted.getResponse().getContentAsString();
+        String status = "QUEUED";
+        for (int attempt = 0; attempt < 100 && (status.equals("QUEUED") || status.equals("RUNNING")); attempt++) {
+            Thread.sleep(50);
+            MvcResult progress = mockMvc.perform(get("/api/imports/roster/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            job = progress.getResponse().getContentAsString();
+            status = JsonPath.read(job, "$.status");
+        }
+        return job;
+    }
+}
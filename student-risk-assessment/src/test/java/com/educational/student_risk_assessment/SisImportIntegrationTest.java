@@ -0,0 +1,226 @@
+package com.educational.student_risk_assessment;
+
+import com.educational.student_risk_assessment.entity.AcademicPerformance;
+import com.educational.student_risk_assessment.entity.Attendance;
+import com.educational.student_risk_assessment.entity.Student;
+import com.educational.student_risk_assessment.entity.StudentRiskScore;
+import com.educational.student_risk_assessment.repository.AcademicPerformanceRepository;
+import com.educational.student_risk_assessment.repository.AttendanceRepository;
+import com.educational.student_risk_assessment.repository.StudentRepository;
+import com.educational.student_risk_assessment.repository.StudentRiskScoreRepository;
+import com.educational.student_risk_assessment.service.SemesterService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class SisImportIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AcademicPerformanceRepository academicPerformanceRepository;
+
+    @Autowired
+    private StudentRiskScoreRepository studentRiskScoreRepository;
+
+    @Autowired
+    private SemesterService semesterService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        Files.createDirectories(Paths.get("target/sis-imports"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importAttendance_UpsertsByStudentAndSemester_AndRescores() throws Exception {
+        Student first = studentRepository.save(new Student("Import Student A", "11th"));
+        Student second = studentRepository.save(new Student("Import Student B", "11th"));
+        UUID unknown = UUID.randomUUID();
+
+        writeFile("attendance-1.csv",
+                "tardy_days,student_id,semester,attendance_rate,absent_days,extra\n" +
+                "0," + first.getId() + ",2023-Fall,95,1,x\n" +
+                "2," + second.getId() + ",2023-Fall,80,15,\"quoted, ignored\"\n" +
+                "0," + unknown + ",2023-Fall,90,0,\n" +
+                "0," + first.getId() + ",2023-Fall,abc,0,\n" +
+                "\n" +
+                "3," + first.getId() + ",2023-Fall,85,12,\n");
+
+        String job = awaitImport("ATTENDANCE", "attendance-1.csv");
+        assertEquals("COMPLETED", JsonPath.read(job, "$.status"));
+        assertEquals(5, ((Number) JsonPath.read(job, "$.rowsRead")).intValue());
+        assertEquals(3, ((Number) JsonPath.read(job, "$.rowsImported")).intValue());
+        assertEquals(2, ((Number) JsonPath.read(job, "$.rowsRejected")).intValue());
+        List<String> rejected = JsonPath.read(job, "$.rejectedRows");
+        assertTrue(rejected.contains("line 4: Student not found: " + unknown), rejected.toString());
+        assertTrue(rejected.contains("line 5: attendance_rate is not a number: 'abc'"), rejected.toString());
+        assertEquals(List.of("2023-Fall"), JsonPath.read(job, "$.semesters"));
+
+        Short semesterId = semesterService.resolve("2023-Fall").getId();
+        // The later row of the same student and semester wins
+        Attendance attendance = attendanceRepository.findByStudentIdAndSemesterId(first.getId(), semesterId)
+                .orElseThrow();
+        assertEquals(0, new BigDecimal("85").compareTo(attendance.getAttendanceRate()));
+        assertEquals(12, attendance.getAbsentDays());
+
+        // Re-importing updates the existing row instead of adding one
+        writeFile("attendance-2.csv",
+                "student_id,semester,attendance_rate,absent_days,tardy_days\n" +
+                second.getId() + ",2023-Fall,97,1,0\n");
+        assertEquals("COMPLETED", JsonPath.read(awaitImport("ATTENDANCE", "attendance-2.csv"), "$.status"));
+
+        assertEquals(1, attendanceRepository.findBySemesterId(semesterId).stream()
+                .filter(row -> row.getStudent().getId().equals(second.getId()))
+                .count());
+        Attendance updated = attendanceRepository.findByStudentIdAndSemesterId(second.getId(), semesterId)
+                .orElseThrow();
+        assertEquals(0, new BigDecimal("97").compareTo(updated.getAttendanceRate()));
+
+        // The imported semester is rescored by a cohort recompute
+        StudentRiskScore score = null;
+        for (int attempt = 0; attempt < 100 && score == null; attempt++) {
+            Thread.sleep(50);
+            score = studentRiskScoreRepository.findByStudentIdAndSemester(first.getId(), "2023-Fall")
+                    .filter(row -> row.getTotalScore() == 30)
+                    .orElse(null);
+        }
+        assertNotNull(score);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importAcademicPerformance_KeysOnCourse() throws Exception {
+        Student student = studentRepository.save(new Student("Import Student C", "9th"));
+
+        writeFile("academic.csv",
+                "student_id,semester,course,grade,state_assessment_ela,state_assessment_math\n" +
+                student.getId() + ",2023-Spring,Math,65.5,,480\n" +
+                student.getId() + ",2023-Spring,English,88,510,\n" +
+                student.getId() + ",2023-Spring,,70,,\n");
+
+        String job = awaitImport("ACADEMIC_PERFORMANCE", "academic.csv");
+        assertEquals("COMPLETED", JsonPath.read(job, "$.status"));
+        assertEquals(2, ((Number) JsonPath.read(job, "$.rowsImported")).intValue());
+        assertEquals(List.of("line 4: course must be 1-50 characters"), JsonPath.read(job, "$.rejectedRows"));
+
+        List<AcademicPerformance> rows = academicPerformanceRepository.findByStudentIdAndSemesterId(
+                student.getId(), semesterService.resolve("2023-Spring").getId());
+        assertEquals(2, rows.size());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importBehavior_MissingColumn_Fails() throws Exception {
+        writeFile("behavior.csv", "student_id,semester,suspensions\n");
+
+        String job = awaitImport("BEHAVIOR", "behavior.csv");
+        assertEquals("FAILED", JsonPath.read(job, "$.status"));
+        assertEquals("Missing columns for BEHAVIOR: [disciplinary_actions]", JsonPath.read(job, "$.error"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void startImport_OutsideImportDirectory_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/imports")
+                        .param("type", "ATTENDANCE")
+                        .param("file", "../pom.xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    void startImport_AsTeacher_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post("/api/imports")
+                        .param("type", "ATTENDANCE")
+                        .param("file", "attendance-1.csv"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getOrCreate_ConcurrentFirstUse_ResolvesOneSemester() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Short>> calls = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                calls.add(() -> semesterService.getOrCreate("2033-Summer").getId());
+            }
+            List<Short> ids = new ArrayList<>();
+            for (Future<Short> result : executor.invokeAll(calls)) {
+                ids.add(result.get());
+            }
+            assertEquals(1, ids.stream().distinct().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void writeFile(String name, String content) throws Exception {
+        Path file = Paths.get("target/sis-imports", name);
+        Files.writeString(file, content);
+    }
+
+    private String awaitImport(String type, String file) throws Exception {
+        MvcResult accepted = mockMvc.perform(post("/api/imports")
+                        .param("type", type)
+                        .param("file", file))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        String jobId = JsonPath.read(accepted.getResponse().getContentAsString(), "$.id");
+        String job = accepted.getResponse().getContentAsString();
+        String status = "QUEUED";
+        for (int attempt = 0; attempt < 100 && (status.equals("QUEUED") || status.equals("RUNNING")); attempt++) {
+            Thread.sleep(50);
+            MvcResult progress = mockMvc.perform(get("/api/imports/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            job = progress.getResponse().getContentAsString();
+            status = JsonPath.read(job, "$.status");
+        }
+        return job;
+    }
+}